@@ -0,0 +1,112 @@
+package com.inhash.backend.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.inhash.backend.service.DeadlineItem;
+import com.inhash.backend.service.NormalizedItem;
+import com.inhash.backend.web.dto.DeadlineListResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마감 조회 응답 직렬화 비교: 항목별 HashMap + ObjectMapper(이전 방식) vs 응답 레코드 + 미리 만든 ObjectWriter
+ * - 응답 하나를 만드는 데 드는 처리량과 할당량을 비교합니다.
+ *   할당량은 gc 프로파일러의 gc.alloc.rate.norm(응답당 바이트)으로 출력됩니다 (build.gradle jmh.profilers).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DeadlineResponseBenchmark {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME
+            .withZone(ZoneId.of("Asia/Seoul"));
+
+    @Param({"20", "100", "500"})
+    public int itemCount;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter writer;
+    private List<DeadlineItem> items;
+    private List<DeadlineItem> assignments;
+    private List<DeadlineItem> lectures;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        writer = objectMapper.writerFor(DeadlineListResponse.class);
+        items = new ArrayList<>();
+        assignments = new ArrayList<>();
+        lectures = new ArrayList<>();
+        Instant base = Instant.now().plusSeconds(3600);
+        for (int i = 0; i < itemCount; i++) {
+            boolean assignment = i % 3 == 0;
+            DeadlineItem item = new DeadlineItem(
+                    assignment ? NormalizedItem.Kind.ASSIGNMENT : NormalizedItem.Kind.LECTURE,
+                    UUID.randomUUID(),
+                    (assignment ? "과제 " : "[VOD] 강의 ") + (i / 8 + 1) + "주차",
+                    "디지털논리회로",
+                    "https://learn.inha.ac.kr/mod/" + (assignment ? "assign" : "vod") + "/view.php?id=" + (900000 + i),
+                    i % 5 == 0,
+                    i % 17 == 0 ? null : base.plusSeconds(86400L * (i % 25)));
+            items.add(item);
+            (assignment ? assignments : lectures).add(item);
+        }
+    }
+
+    @Benchmark
+    public byte[] legacyMaps() throws JsonProcessingException {
+        Map<String, Object> response = new HashMap<>();
+        List<Map<String, Object>> a = new ArrayList<>();
+        for (DeadlineItem item : assignments) a.add(legacyToMap(item, "assignment", "dueDate"));
+        List<Map<String, Object>> l = new ArrayList<>();
+        for (DeadlineItem item : lectures) l.add(legacyToMap(item, "lecture", "lectureDate"));
+        response.put("success", true);
+        response.put("assignments", a);
+        response.put("lectures", l);
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] typedRecords() throws JsonProcessingException {
+        return writer.writeValueAsBytes(DeadlineController.toResponse(items, Instant.now()));
+    }
+
+    /** 이전 assignmentToMap/lectureToMap과 같은 방식 (항목마다 HashMap, 두 번 포맷, Instant.now() 호출) */
+    private static Map<String, Object> legacyToMap(DeadlineItem item, String type, String dateKey) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", item.getId());
+        map.put("title", item.getTitle());
+        map.put("courseName", item.getCourseName());
+        map.put("url", item.getUrl());
+        map.put("completed", item.isCompleted());
+        map.put("type", type);
+        if (item.getDueAt() != null) {
+            map.put("dueAt", FORMATTER.format(item.getDueAt()));
+            map.put(dateKey, FORMATTER.format(item.getDueAt()));
+            long remainingSeconds = item.getDueAt().getEpochSecond() - Instant.now().getEpochSecond();
+            map.put("remainingDays", Math.max(0, remainingSeconds / 86400));
+        } else {
+            map.put("dueAt", null);
+            map.put(dateKey, null);
+            map.put("remainingDays", null);
+        }
+        return map;
+    }
+}
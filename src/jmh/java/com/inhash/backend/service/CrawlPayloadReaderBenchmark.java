@@ -0,0 +1,147 @@
+package com.inhash.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 제출 본문 압축 여부에 따른 전송 바이트 수와 파싱 시간 비교
+ * - identity / gzip / deflate 본문을 같은 CrawlPayloadReader로 읽습니다.
+ * - 전송 바이트 수는 보조 카운터(wireBytes)로 함께 출력됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CrawlPayloadReaderBenchmark {
+
+    @Param({"50", "300", "1000"})
+    public int itemCount;
+
+    private CrawlPayloadReader reader;
+    private byte[] identity;
+    private byte[] gzip;
+    private byte[] deflate;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireBytes {
+        public long wireBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            wireBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        IngestMetrics metrics = new IngestMetrics(registry);
+        CrawlItemNormalizer normalizer = new CrawlItemNormalizer(
+                new CourseNameNormalizer(1000, registry), new IngestDebugLog(false, 0), metrics);
+        reader = new CrawlPayloadReader(new ObjectMapper(), normalizer, metrics, 100_000, 64L * 1024 * 1024);
+        identity = realisticPayload(itemCount);
+        gzip = gzip(identity);
+        deflate = deflate(identity);
+        System.out.printf("%n[items=%d] identity=%d B, gzip=%d B (%.1f%%), deflate=%d B (%.1f%%)%n",
+                itemCount, identity.length,
+                gzip.length, 100.0 * gzip.length / identity.length,
+                deflate.length, 100.0 * deflate.length / identity.length);
+    }
+
+    @Benchmark
+    public IngestPayload identity(WireBytes counter) throws IOException {
+        counter.wireBytes += identity.length;
+        return reader.read(1L, new ByteArrayInputStream(identity), null);
+    }
+
+    @Benchmark
+    public IngestPayload gzip(WireBytes counter) throws IOException {
+        counter.wireBytes += gzip.length;
+        return reader.read(1L, new ByteArrayInputStream(gzip), "gzip");
+    }
+
+    @Benchmark
+    public IngestPayload deflate(WireBytes counter) throws IOException {
+        counter.wireBytes += deflate.length;
+        return reader.read(1L, new ByteArrayInputStream(deflate), "deflate");
+    }
+
+    /**
+     * 실제 앱 제출과 비슷한 본문: 8개 과목에 과제/VOD 항목이 고르게 분포
+     */
+    static byte[] realisticPayload(int itemCount) {
+        String[] courses = {
+            "비러닝학부디지털논리회로[202502-EEC2106-001]박재현",
+            "오프라인학부자료구조[202502-CSE2103-002]김민수",
+            "원격활용학부확률및통계[202502-MTH2201-001]이서연",
+            "블렌디드러닝학부컴퓨터구조[202502-CSE3101-003]최지훈",
+            "온라인학부운영체제[202502-CSE3204-001]정하늘",
+            "대면학부공학수학2[202502-MTH1102-004]한도윤",
+            "비대면학부알고리즘[202502-CSE3301-001]윤서준",
+            "비러닝학부전자회로1[202502-EEC2201-002]강예린"
+        };
+        DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(23).withMinute(59).withSecond(0).withNano(0);
+
+        StringBuilder sb = new StringBuilder(itemCount * 200);
+        sb.append("{\"clientVersion\":\"1.4.2\",\"clientPlatform\":\"Android\",\"crawledAt\":\"")
+          .append(java.time.Instant.now()).append("\",\"courses\":[");
+        for (int i = 0; i < courses.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"name\":\"").append(courses[i])
+              .append("\",\"mainLink\":\"https://learn.inha.ac.kr/course/view.php?id=").append(40000 + i).append("\"}");
+        }
+        sb.append("],\"items\":[");
+        for (int i = 0; i < itemCount; i++) {
+            if (i > 0) sb.append(',');
+            boolean assignment = i % 3 == 0;
+            String due = fmt.format(base.plusDays(i % 25).minusHours(i % 7));
+            sb.append("{\"type\":\"").append(assignment ? "assignment" : "class")
+              .append("\",\"courseName\":\"").append(courses[i % courses.length])
+              .append("\",\"title\":\"").append(assignment ? "과제 " : "[VOD] 강의 ").append(i / courses.length + 1).append("주차")
+              .append("\",\"url\":\"https://learn.inha.ac.kr/mod/").append(assignment ? "assign" : "vod")
+              .append("/view.php?id=").append(900000 + i)
+              .append("\",\"due\":\"").append(due)
+              .append("\",\"remainingSeconds\":").append(86400L * (i % 25))
+              .append('}');
+        }
+        sb.append("]}");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gzip(byte[] raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(raw);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflaterOutputStream df = new DeflaterOutputStream(out)) {
+            df.write(raw);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,85 @@
+package com.inhash.backend.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마감일 파싱: 기존 정규식 + DateTimeFormatter 방식과 DueDateParser 비교
+ * - 실제 제출 분포처럼 "yyyy-MM-dd HH:mm:ss"가 대부분이고 초 없는 형식, ISO 형식, 빈 값이 섞여 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DueDateParserBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private String[] inputs;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        inputs = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            int day = 1 + random.nextInt(28);
+            int hour = random.nextInt(24);
+            int minute = random.nextInt(60);
+            inputs[i] = switch (random.nextInt(10)) {
+                case 0 -> String.format("2025-10-%02d %02d:%02d", day, hour, minute);
+                case 1 -> String.format("2025-10-%02dT%02d:%02d:00", day, hour, minute);
+                case 2 -> "";
+                default -> String.format("2025-10-%02d %02d:%02d:59", day, hour, minute);
+            };
+        }
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        for (String s : inputs) bh.consume(legacyParseDue(s));
+    }
+
+    @Benchmark
+    public void parser(Blackhole bh) {
+        for (String s : inputs) bh.consume(DueDateParser.parse(s));
+    }
+
+    @Benchmark
+    public void parserEpochSecond(Blackhole bh) {
+        for (String s : inputs) bh.consume(DueDateParser.parseEpochSecond(s));
+    }
+
+    /**
+     * 기존 CrawlItemNormalizer.parseDue 구현
+     */
+    private static Instant legacyParseDue(String due) {
+        if (due == null || due.isBlank()) return null;
+        try {
+            String norm = due.trim();
+            LocalDateTime ldt;
+            if (norm.matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}")) {
+                ldt = LocalDateTime.parse(norm, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+            } else if (norm.matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}")) {
+                ldt = LocalDateTime.parse(norm, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+            } else {
+                if (norm.length() == 16) norm = norm + ":00";
+                ldt = LocalDateTime.parse(norm.replace(' ', 'T'));
+            }
+            return ldt.atZone(ZoneId.of("Asia/Seoul")).toInstant();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.inhash.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청당 SQL 문 수 집계 등록 (inhash.query-count.enabled=false면 등록하지 않음)
+ */
+@Configuration
+@ConditionalOnProperty(name = "inhash.query-count.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountConfig implements WebMvcConfigurer {
+
+    private final QueryCountInspector inspector;
+
+    public QueryCountConfig(MeterRegistry meterRegistry,
+                            @Value("${inhash.query-count.warn-threshold:20}") int warnThreshold) {
+        this.inspector = new QueryCountInspector(meterRegistry, warnThreshold);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountHibernateCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(inspector).addPathPatterns("/api/**");
+    }
+}
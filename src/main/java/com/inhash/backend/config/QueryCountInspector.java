@@ -0,0 +1,68 @@
+package com.inhash.backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청당 Hibernate SQL 문 수 집계
+ * - Hibernate가 실행하는 모든 SQL이 StatementInspector를 거치므로, 요청 스레드에서 실행된 문장 수를 셉니다.
+ *   (세션 팩토리 전체의 Statistics와 달리 동시 요청이 섞여도 엔드포인트별로 구분됩니다.)
+ * - 요청이 끝나면 inhash.http.queries{method, uri} 분포 메트릭으로 기록하고,
+ *   warn-threshold를 넘으면 로그를 남깁니다.
+ * - JdbcTemplate(ItemBatchWriter) 문장은 Hibernate를 거치지 않으므로 세지 않습니다.
+ */
+public class QueryCountInspector implements StatementInspector, AsyncHandlerInterceptor {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+
+    public QueryCountInspector(MeterRegistry meterRegistry, int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) count[0]++;
+        return sql;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        COUNT.set(new int[1]);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        COUNT.remove(); // 비동기 처리는 다른 스레드에서 이어지므로 집계하지 않음
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        if (count == null) return;
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("inhash.http.queries")
+                .description("Hibernate SQL statements per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(count[0]);
+        if (warnThreshold > 0 && count[0] > warnThreshold) {
+            System.out.println("[query-count] " + request.getMethod() + " " + uri + " ran " + count[0] + " queries");
+        }
+    }
+}
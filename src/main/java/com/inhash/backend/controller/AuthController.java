@@ -2,10 +2,10 @@ package com.inhash.backend.controller;
 
 import com.inhash.backend.domain.Student;
 import com.inhash.backend.repository.StudentRepository;
-import com.inhash.backend.service.ClientCrawlService;
+import com.inhash.backend.service.AccountDeletionService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.Optional;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -19,11 +19,14 @@ import java.util.UUID;
 public class AuthController {
     
     private final StudentRepository studentRepository;
-    private final ClientCrawlService clientCrawlService;
+    private final AccountDeletionService accountDeletionService;
     
-    public AuthController(StudentRepository studentRepository, ClientCrawlService clientCrawlService) {
+    @Value("${inhash.account.deletion.async.enabled:true}")
+    private boolean asyncDeletion;
+    
+    public AuthController(StudentRepository studentRepository, AccountDeletionService accountDeletionService) {
         this.studentRepository = studentRepository;
-        this.clientCrawlService = clientCrawlService;
+        this.accountDeletionService = accountDeletionService;
     }
     
     /**
@@ -169,36 +172,11 @@ public class AuthController {
      */
     @DeleteMapping("/delete")
     public ResponseEntity<Map<String, Object>> deleteAccount(@RequestBody Map<String, Object> request) {
-        Map<String, Object> response = new HashMap<>();
-        
         try {
             Long studentId = Long.parseLong(request.get("studentId").toString());
-            
-            // 학생 찾기
-            Optional<Student> studentOpt = studentRepository.findById(studentId);
-            if (studentOpt.isEmpty()) {
-                response.put("success", false);
-                response.put("error", "Student not found");
-                return ResponseEntity.notFound().build();
-            }
-            
-            // 1. 먼저 관련 데이터 모두 삭제 (과제, 수업)
-            boolean dataDeleted = clientCrawlService.deleteStudentData(studentId);
-            if (!dataDeleted) {
-                response.put("success", false);
-                response.put("error", "Failed to delete student data");
-                return ResponseEntity.internalServerError().body(response);
-            }
-            
-            // 2. 학생 계정 삭제
-            Student student = studentOpt.get();
-            studentRepository.delete(student);
-            
-            response.put("success", true);
-            response.put("message", "Account and all related data deleted successfully");
-            return ResponseEntity.ok(response);
-            
+            return deleteAccountById(studentId);
         } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
             response.put("success", false);
             response.put("error", "Failed to delete account: " + e.getMessage());
             return ResponseEntity.internalServerError().body(response);
@@ -210,28 +188,33 @@ public class AuthController {
      */
     @DeleteMapping("/delete/{studentId}")
     public ResponseEntity<Map<String, Object>> deleteAccountByPath(@PathVariable Long studentId) {
+        return deleteAccountById(studentId);
+    }
+    
+    /**
+     * 관련 데이터(과제, 수업, FCM 토큰, 업데이트 상태, LMS 계정)와 학생 계정 삭제
+     * 비동기 모드에서는 삭제를 백그라운드로 넘기고 202를 바로 반환합니다.
+     */
+    private ResponseEntity<Map<String, Object>> deleteAccountById(Long studentId) {
         Map<String, Object> response = new HashMap<>();
         
         try {
             // 학생 찾기
-            Optional<Student> studentOpt = studentRepository.findById(studentId);
-            if (studentOpt.isEmpty()) {
-                response.put("success", false);
-                response.put("error", "Student not found");
+            if (!studentRepository.existsById(studentId)) {
                 return ResponseEntity.notFound().build();
             }
             
-            // 1. 먼저 관련 데이터 모두 삭제 (과제, 수업)
-            boolean dataDeleted = clientCrawlService.deleteStudentData(studentId);
-            if (!dataDeleted) {
-                response.put("success", false);
-                response.put("error", "Failed to delete student data");
-                return ResponseEntity.internalServerError().body(response);
+            if (asyncDeletion) {
+                accountDeletionService.deleteAccountAsync(studentId);
+                response.put("success", true);
+                response.put("status", "deleting");
+                response.put("message", "Account deletion has been scheduled");
+                return ResponseEntity.accepted().body(response);
             }
             
-            // 2. 학생 계정 삭제
-            Student student = studentOpt.get();
-            studentRepository.delete(student);
+            if (!accountDeletionService.deleteAccount(studentId)) {
+                return ResponseEntity.notFound().build();
+            }
             
             response.put("success", true);
             response.put("message", "Account and all related data deleted successfully");
@@ -0,0 +1,101 @@
+package com.inhash.backend.controller;
+
+import com.inhash.backend.service.CalendarFeedService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 캘린더 구독(ICS) API
+ * - POST /api/deadlines/{studentId}/ics-token: 구독 토큰 발급 (rotate=true면 재발급)
+ * - GET /ics/{token}: Google/Apple 캘린더 등이 주기적으로 받아가는 구독 주소
+ *   데이터 버전이 같으면 If-None-Match에 304로 응답하고, 본문은 StreamingResponseBody로 스트리밍합니다.
+ */
+@RestController
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001", "http://127.0.0.1:3000", "http://127.0.0.1:3001"})
+public class CalendarFeedController {
+
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+    private final CalendarFeedService calendarFeedService;
+
+    public CalendarFeedController(CalendarFeedService calendarFeedService) {
+        this.calendarFeedService = calendarFeedService;
+    }
+
+    /**
+     * 구독 토큰 발급
+     */
+    @PostMapping("/api/deadlines/{studentId}/ics-token")
+    public ResponseEntity<Map<String, Object>> issueToken(
+            @PathVariable Long studentId,
+            @RequestParam(defaultValue = "false") boolean rotate) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            Optional<String> token = calendarFeedService.issueToken(studentId, rotate);
+            if (token.isEmpty()) {
+                response.put("success", false);
+                response.put("error", "학생을 찾을 수 없습니다");
+                return ResponseEntity.badRequest().body(response);
+            }
+            response.put("success", true);
+            response.put("token", token.get());
+            response.put("path", "/ics/" + token.get() + ".ics");
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("error", "토큰 발급 중 오류: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    /**
+     * 구독 피드 (.ics 확장자는 있어도 없어도 됨)
+     */
+    @GetMapping({"/ics/{token}", "/ics/{token}.ics"})
+    public ResponseEntity<StreamingResponseBody> feed(
+            @PathVariable String token,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<CalendarFeedService.Feed> feed = calendarFeedService.findFeed(token);
+        if (feed.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String etag = feed.get().etag();
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        StreamingResponseBody body = out -> calendarFeedService.write(feed.get(), out);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(TEXT_CALENDAR)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"inhash.ics\"")
+                .body(body);
+    }
+
+    /** If-None-Match 비교 (목록/와일드카드 허용, W/ 접두사 무시) */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) return true;
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(etag)) return true;
+        }
+        return false;
+    }
+}
@@ -1,12 +1,37 @@
 package com.inhash.backend.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.inhash.backend.domain.StudentUpdateStatus;
 import com.inhash.backend.service.ClientCrawlService;
-import com.inhash.backend.web.dto.ClientCrawlDataDto;
+import com.inhash.backend.service.CrawlPayloadReader;
+import com.inhash.backend.service.IdempotencyService;
+import com.inhash.backend.service.IngestAdmissionControl;
+import com.inhash.backend.service.IngestBatchService;
+import com.inhash.backend.service.IngestLockTimeoutException;
+import com.inhash.backend.service.IngestPayload;
+import com.inhash.backend.service.IngestQueueFullException;
+import com.inhash.backend.service.IngestQueueService;
+import com.inhash.backend.service.IngestResult;
+import com.inhash.backend.service.PayloadTooLargeException;
+import com.inhash.backend.service.StaleSnapshotException;
+import com.inhash.backend.web.dto.ClientCrawlDeltaDto;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.ZipException;
 
 /**
  * 클라이언트에서 크롤링한 데이터를 수신하는 컨트롤러
@@ -16,10 +41,32 @@ import java.util.Map;
 @RequestMapping("/api/crawl")
 public class ClientCrawlController {
     
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CLIENT_VERSION_HEADER = "X-Client-Version";
+    private static final String CLIENT_PLATFORM_HEADER = "X-Client-Platform";
+    
     private final ClientCrawlService clientCrawlService;
+    private final IngestQueueService ingestQueueService;
+    private final CrawlPayloadReader crawlPayloadReader;
+    private final IngestBatchService ingestBatchService;
+    private final IdempotencyService idempotencyService;
+    private final IngestAdmissionControl admissionControl;
+    
+    @Value("${inhash.ingest.async.enabled:true}")
+    private boolean asyncEnabled;
     
-    public ClientCrawlController(ClientCrawlService clientCrawlService) {
+    public ClientCrawlController(ClientCrawlService clientCrawlService,
+                                 IngestQueueService ingestQueueService,
+                                 CrawlPayloadReader crawlPayloadReader,
+                                 IngestBatchService ingestBatchService,
+                                 IdempotencyService idempotencyService,
+                                 IngestAdmissionControl admissionControl) {
         this.clientCrawlService = clientCrawlService;
+        this.ingestQueueService = ingestQueueService;
+        this.crawlPayloadReader = crawlPayloadReader;
+        this.ingestBatchService = ingestBatchService;
+        this.idempotencyService = idempotencyService;
+        this.admissionControl = admissionControl;
     }
     
     /**
@@ -48,43 +95,268 @@ public class ClientCrawlController {
     
     /**
      * 클라이언트에서 크롤링한 데이터 수신 및 처리
+     * 본문(ClientCrawlDataDto 형식 JSON)은 스트리밍으로 읽으면서 항목 단위로 정규화합니다.
+     * Content-Encoding: gzip / deflate로 압축해 보낼 수 있습니다.
+     * 
+     * Idempotency-Key 헤더를 붙이면 같은 키의 재전송에는 처음 응답을 그대로 돌려줍니다 (본문을 다시 처리하지 않음).
      * 
      * @param studentId 학생 ID (인증된 사용자)
-     * @param data 크롤링 데이터
+     * @param idempotencyKey 재전송 판별용 키 (선택)
+     * @param request 크롤링 데이터 본문
      * @return 처리 결과
      */
-    @PostMapping("/submit/{studentId}")
+    @PostMapping(value = "/submit/{studentId}", consumes = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Map<String, Object>> submitCrawlData(
             @PathVariable Long studentId,
-            @RequestBody ClientCrawlDataDto data) {
-        
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            HttpServletRequest request) {
+        return idempotencyService.execute("submit:" + studentId, idempotencyKey,
+                () -> admitted(studentId, request, () -> submit(studentId, request)));
+    }
+    
+    private ResponseEntity<Map<String, Object>> submit(Long studentId, HttpServletRequest request) {
         try {
+            // 선언된 본문 크기가 한도를 넘으면 읽기 전에 거절
+            if (request.getContentLengthLong() > crawlPayloadReader.getMaxBytes()) {
+                throw new PayloadTooLargeException("Request body exceeds " + crawlPayloadReader.getMaxBytes() + " bytes");
+            }
+            String contentEncoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+            if (!crawlPayloadReader.supportsEncoding(contentEncoding)) {
+                Map<String, Object> error = new HashMap<>();
+                error.put("success", false);
+                error.put("error", "Unsupported Content-Encoding: " + contentEncoding);
+                return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(error);
+            }
+            
+            // 학생별 제출 간격 제한 (본문을 읽기 전에 확인, 거절 집계는 헤더의 클라이언트 버전/플랫폼으로)
+            long retryAfter = admissionControl.tryConsume(studentId);
+            if (retryAfter > 0) {
+                admissionControl.recordRejection("rate", studentId,
+                        request.getHeader(CLIENT_VERSION_HEADER), request.getHeader(CLIENT_PLATFORM_HEADER));
+                return tooManyRequests(retryAfter, "제출 간격이 너무 짧습니다. 잠시 후 다시 시도해주세요.");
+            }
+            
+            IngestPayload data = crawlPayloadReader.read(studentId, request.getInputStream(), contentEncoding);
+            admissionControl.rememberClient(studentId, data.getClientVersion(), data.getClientPlatform());
+            
             System.out.println("=== Received crawl data for student: " + studentId);
             System.out.println("Client version: " + data.getClientVersion());
             System.out.println("Client platform: " + data.getClientPlatform());
-            System.out.println("Courses count: " + (data.getCourses() != null ? data.getCourses().size() : 0));
-            System.out.println("Items count: " + (data.getItems() != null ? data.getItems().size() : 0));
+            System.out.println("Courses count: " + data.getCourseCount());
+            System.out.println("Items count: " + data.getReceivedItems());
+            
+            if (asyncEnabled) {
+                // 큐에 넣고 즉시 응답 (처리 결과는 /api/jobs/{jobId}로 조회)
+                String jobId = ingestQueueService.submit(studentId, data);
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("jobId", jobId);
+                response.put("status", "queued");
+                response.put("message", "데이터가 접수되었습니다.");
+                return ResponseEntity.accepted().body(response);
+            }
             
-            int imported = clientCrawlService.processCrawlData(studentId, data);
+            IngestResult result = clientCrawlService.processPayload(studentId, data);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("imported", imported);
-            response.put("message", "데이터가 성공적으로 업데이트되었습니다.");
+            response.put("status", result.isSnapshotUnchanged() ? "unchanged" : "updated");
+            response.put("imported", result.getImported());
+            response.put("added", result.getAdded());
+            response.put("updated", result.getUpdated());
+            response.put("removed", result.getRemoved());
+            response.put("snapshotVersion", result.getSnapshotVersion());
+            response.put("message", result.isSnapshotUnchanged()
+                    ? "변경된 데이터가 없습니다."
+                    : "데이터가 성공적으로 업데이트되었습니다.");
             
-            System.out.println("Successfully processed " + imported + " items");
+            System.out.println("Successfully processed crawl data: " + result);
             return ResponseEntity.ok(response);
             
+        } catch (PayloadTooLargeException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(error);
+        } catch (IngestQueueFullException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("error", "서버가 혼잡합니다. 잠시 후 다시 시도해주세요.");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .body(error);
+        } catch (IngestLockTimeoutException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("error", "이전 제출을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .body(error);
+        } catch (JsonEOFException e) {
+            // 본문이 중간에 끊김 (전송 중 연결 문제일 수 있으므로 재시도 가능한 오류로 응답해 멱등성 키에 저장하지 않음)
+            return serverError("Request body ended unexpectedly");
+        } catch (JsonProcessingException | ZipException e) {
+            // 본문 형식 오류는 같은 본문으로 다시 보내도 같은 결과이므로 400
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("error", "Malformed request body: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
         } catch (Exception e) {
+            // DB 타임아웃, 교착 상태, 연결 끊김 등 예상하지 못한 오류는 500 (멱등성 키에 저장되지 않아 같은 키로 재시도 가능)
             System.err.println("=== Error processing crawl data: " + e.getMessage());
             e.printStackTrace();
-            
+            return serverError("Failed to process crawl data");
+        }
+    }
+    
+    /**
+     * 여러 학생의 크롤링 데이터 일괄 제출 (캠퍼스 중계 클라이언트용)
+     * 본문은 NDJSON으로 한 줄에 학생 한 명이며, 각 줄은 /submit 본문에 studentId를 첫 필드로 붙인 형식입니다.
+     * 응답도 NDJSON으로, 학생별 결과가 처리 순서대로 한 줄씩 오고 마지막 줄은 요약(done=true)입니다.
+     * 
+     * 예: {"studentId":1,"clientVersion":"1.2.0","clientPlatform":"relay","items":[...]}
+     */
+    @PostMapping(value = "/batch", consumes = NDJSON, produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> submitBatch(HttpServletRequest request) throws IOException {
+        String contentEncoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        if (!crawlPayloadReader.supportsEncoding(contentEncoding)) {
+            // 응답 형식이 NDJSON이므로 오류도 한 줄 JSON으로
+            byte[] error = "{\"success\":false,\"error\":\"Unsupported Content-Encoding\"}\n"
+                    .getBytes(StandardCharsets.UTF_8);
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(out -> out.write(error));
+        }
+        if (!admissionControl.tryAcquire()) {
+            admissionControl.recordRejection("concurrency", null,
+                    request.getHeader(CLIENT_VERSION_HEADER), request.getHeader(CLIENT_PLATFORM_HEADER));
+            byte[] error = "{\"success\":false,\"error\":\"Too many concurrent submissions\"}\n"
+                    .getBytes(StandardCharsets.UTF_8);
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(out -> out.write(error));
+        }
+        InputStream body = request.getInputStream();
+        return ResponseEntity.ok().body(out -> {
+            try {
+                ingestBatchService.process(body, contentEncoding, out);
+            } finally {
+                admissionControl.release();
+            }
+        });
+    }
+    
+    /**
+     * 델타 제출 (마지막으로 받은 snapshotVersion 이후의 변경분만 전송)
+     * 변경분이 작고 기준 버전 검증 결과를 바로 알려야 하므로 큐를 거치지 않고 동기로 처리합니다.
+     * 
+     * @param studentId 학생 ID
+     * @param idempotencyKey 재전송 판별용 키 (선택, /submit과 동일)
+     * @param delta baseVersion, 추가/변경 항목(added), 사라진 항목 ID(removed)
+     * @return 처리 결과와 새 snapshotVersion, 기준 버전이 오래되었으면 409와 currentVersion
+     */
+    @PostMapping("/delta/{studentId}")
+    public ResponseEntity<Map<String, Object>> submitDelta(
+            @PathVariable Long studentId,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @RequestBody ClientCrawlDeltaDto delta,
+            HttpServletRequest request) {
+        // 본문이 이미 바인딩되어 있으므로 동시 처리 수 거절에도 이 요청의 버전/플랫폼이 쓰이도록 먼저 기록
+        admissionControl.rememberClient(studentId, delta.getClientVersion(), delta.getClientPlatform());
+        return idempotencyService.execute("delta:" + studentId, idempotencyKey,
+                () -> admitted(studentId, request, () -> delta(studentId, delta)));
+    }
+    
+    private ResponseEntity<Map<String, Object>> delta(Long studentId, ClientCrawlDeltaDto delta) {
+        if (delta.getBaseVersion() == null) {
             Map<String, Object> error = new HashMap<>();
             error.put("success", false);
-            error.put("error", "Failed to process crawl data");
-            
+            error.put("error", "baseVersion is required");
             return ResponseEntity.badRequest().body(error);
         }
+        
+        long retryAfter = admissionControl.tryConsume(studentId);
+        if (retryAfter > 0) {
+            admissionControl.recordRejection("rate", studentId, delta.getClientVersion(), delta.getClientPlatform());
+            return tooManyRequests(retryAfter, "제출 간격이 너무 짧습니다. 잠시 후 다시 시도해주세요.");
+        }
+        
+        try {
+            IngestResult result = clientCrawlService.processDelta(studentId, delta);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("status", "updated");
+            response.put("added", result.getAdded());
+            response.put("updated", result.getUpdated());
+            response.put("removed", result.getRemoved());
+            response.put("snapshotVersion", result.getSnapshotVersion());
+            response.put("message", "데이터가 성공적으로 업데이트되었습니다.");
+            return ResponseEntity.ok(response);
+            
+        } catch (StaleSnapshotException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("error", "기준 버전이 최신이 아닙니다. 전체 데이터를 다시 제출해주세요.");
+            error.put("currentVersion", e.getCurrentVersion());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+        } catch (IngestLockTimeoutException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("error", "이전 제출을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .body(error);
+        } catch (Exception e) {
+            // 예상하지 못한 오류는 500 (멱등성 키에 저장되지 않아 같은 키로 재시도 가능)
+            System.err.println("=== Error processing crawl delta: " + e.getMessage());
+            e.printStackTrace();
+            return serverError("Failed to process crawl delta");
+        }
+    }
+    
+    /**
+     * 전체 동시 처리 수 제한 안에서 실행 (자리가 없으면 본문을 읽지 않고 바로 429)
+     * 본문을 읽기 전이므로 거절 집계에는 X-Client-Version / X-Client-Platform 헤더를 사용합니다.
+     */
+    private ResponseEntity<Map<String, Object>> admitted(Long studentId, HttpServletRequest request,
+                                                         Supplier<ResponseEntity<Map<String, Object>>> action) {
+        if (!admissionControl.tryAcquire()) {
+            admissionControl.recordRejection("concurrency", studentId,
+                    request.getHeader(CLIENT_VERSION_HEADER), request.getHeader(CLIENT_PLATFORM_HEADER));
+            return tooManyRequests(1, "서버가 혼잡합니다. 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            return action.get();
+        } finally {
+            admissionControl.release();
+        }
+    }
+    
+    private static ResponseEntity<Map<String, Object>> serverError(String message) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("success", false);
+        error.put("error", message);
+        return ResponseEntity.internalServerError().body(error);
+    }
+    
+    private static ResponseEntity<Map<String, Object>> tooManyRequests(long retryAfterSeconds, String message) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("success", false);
+        error.put("error", message);
+        error.put("retryAfter", retryAfterSeconds);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(error);
+    }
+    
+    /**
+     * 비동기 반영 큐 상태 (대기 학생 수, 가장 오래된 대기 시간)
+     */
+    @GetMapping("/queue")
+    public ResponseEntity<Map<String, Object>> getQueueStatus() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("depth", ingestQueueService.depth());
+        response.put("oldestAgeMillis", ingestQueueService.oldestAgeMillis());
+        return ResponseEntity.ok(response);
     }
     
     /**
@@ -94,8 +366,11 @@ public class ClientCrawlController {
     public ResponseEntity<Map<String, Object>> getUpdateStatus(@PathVariable Long studentId) {
         Map<String, Object> response = new HashMap<>();
         response.put("studentId", studentId);
-        // 간단한 핑 응답 (실서비스에서는 StudentUpdateStatus 리얼 값 조회)
-        response.put("lastUpdated", null);
+        StudentUpdateStatus status = clientCrawlService.findUpdateStatus(studentId).orElse(null);
+        response.put("lastUpdated", status != null ? status.getLastUpdatedAt() : null);
+        // 델타 제출의 기준 버전 (0이면 전체 제출부터 해야 함)
+        response.put("snapshotVersion", status != null && status.getSnapshotVersion() != null
+                ? status.getSnapshotVersion() : 0L);
         response.put("needsUpdate", true);
         return ResponseEntity.ok(response);
     }
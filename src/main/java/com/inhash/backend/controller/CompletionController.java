@@ -6,11 +6,16 @@ import com.inhash.backend.repository.StudentRepository;
 import com.inhash.backend.domain.Assignment;
 import com.inhash.backend.domain.Lecture;
 import com.inhash.backend.domain.Student;
+import com.inhash.backend.service.DeadlineEventBroadcaster;
+import com.inhash.backend.service.DeadlineQueryService;
+import com.inhash.backend.service.NormalizedItem;
+import com.inhash.backend.service.ItemIds;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/completion")
@@ -26,6 +31,12 @@ public class CompletionController {
     @Autowired
     private StudentRepository studentRepository;
     
+    @Autowired
+    private DeadlineQueryService deadlineQueryService;
+    
+    @Autowired
+    private DeadlineEventBroadcaster eventBroadcaster;
+    
     /**
      * 과제 완료 상태 토글
      */
@@ -47,8 +58,9 @@ public class CompletionController {
                 return ResponseEntity.badRequest().body(response);
             }
             
-            // 과제 찾기
-            Assignment assignment = assignmentRepository.findById(id)
+            // 과제 찾기 (형식이 맞지 않는 ID는 없는 항목으로 처리)
+            UUID itemId = ItemIds.parse(id);
+            Assignment assignment = itemId == null ? null : assignmentRepository.findById(itemId)
                 .orElse(null);
             
             if (assignment == null) {
@@ -68,6 +80,8 @@ public class CompletionController {
             Boolean currentStatus = assignment.getCompleted();
             assignment.setCompleted(!currentStatus);
             assignmentRepository.save(assignment);
+            deadlineQueryService.markChanged(student.getId());
+            eventBroadcaster.publishToggle(student.getId(), NormalizedItem.Kind.ASSIGNMENT, itemId.toString(), assignment.getCompleted());
             
             response.put("success", true);
             response.put("completed", assignment.getCompleted());
@@ -103,8 +117,9 @@ public class CompletionController {
                 return ResponseEntity.badRequest().body(response);
             }
             
-            // 수업 찾기
-            Lecture lecture = lectureRepository.findById(id)
+            // 수업 찾기 (형식이 맞지 않는 ID는 없는 항목으로 처리)
+            UUID itemId = ItemIds.parse(id);
+            Lecture lecture = itemId == null ? null : lectureRepository.findById(itemId)
                 .orElse(null);
             
             if (lecture == null) {
@@ -124,6 +139,8 @@ public class CompletionController {
             Boolean currentStatus = lecture.getCompleted();
             lecture.setCompleted(!currentStatus);
             lectureRepository.save(lecture);
+            deadlineQueryService.markChanged(student.getId());
+            eventBroadcaster.publishToggle(student.getId(), NormalizedItem.Kind.LECTURE, itemId.toString(), lecture.getCompleted());
             
             response.put("success", true);
             response.put("completed", lecture.getCompleted());
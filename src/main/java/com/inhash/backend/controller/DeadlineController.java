@@ -1,85 +1,116 @@
 package com.inhash.backend.controller;
 
-import com.inhash.backend.domain.Assignment;
-import com.inhash.backend.domain.Lecture;
-import com.inhash.backend.domain.Student;
-import com.inhash.backend.repository.AssignmentRepository;
-import com.inhash.backend.repository.LectureRepository;
-import com.inhash.backend.repository.StudentRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.inhash.backend.service.DeadlineItem;
+import com.inhash.backend.service.DeadlineItemReader;
+import com.inhash.backend.service.DeadlineQueryService;
+import com.inhash.backend.service.NormalizedItem;
+import com.inhash.backend.web.dto.DeadlineListResponse;
+import com.inhash.backend.web.dto.DeadlineRangeResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
 
 /**
  * 과제/수업 마감 기한 조회 API
+ * - 응답에는 학생의 데이터 버전(students.data_version)과 "다음 변경 시각"으로 만든 강한 ETag가 붙고,
+ *   If-None-Match가 일치하면 본문을 만들지 않고 304로 응답합니다.
+ * - 남은 일수와 미마감 여부는 시각에 따라 달라지므로, 항목들로부터 본문이 처음 달라지는 시각
+ *   (남은 일수가 줄어드는 순간, 미마감 목록에서 빠지는 순간, /today는 KST 자정)을 계산해 ETag에 넣습니다.
+ *   그 시각 전까지는 같은 버전의 본문이 항상 같으므로, 폴링 간격과 상관없이 데이터가 그대로면 304입니다.
+ *   미마감 목록은 학생별 캐시에서 계산하고, /all·/today·/range는 항목을 조회해 계산한 값을
+ *   (학생, 조회 조건, 데이터 버전)별로 DeadlineQueryService에 보관합니다. 보관된 값이 있으면 304 확인은
+ *   데이터 버전 조회만으로 끝나고 과제/수업 조회는 하지 않습니다 (없거나 그 시각이 지났으면 항목을 읽어 다시 계산).
+ * - 성공 응답은 DeadlineListResponse 레코드를 미리 만들어 둔 ObjectWriter로 직렬화합니다.
+ *   요청당 기준 시각은 하나이며, 마감 시각 문자열은 항목당 한 번만 포맷합니다.
+ * - /range는 캘린더용으로 KST 날짜 구간의 항목만 (student_id, due_at) 인덱스 범위로 읽어 날짜별로 묶고,
+ *   (마감 시각, ID, 종류) 키셋 커서로 나눠 주거나 mode=counts면 날짜별 개수만 돌려줍니다.
  */
 @RestController
 @RequestMapping("/api/deadlines")
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001", "http://127.0.0.1:3000", "http://127.0.0.1:3001"})
 public class DeadlineController {
     
-    private final StudentRepository studentRepository;
-    private final AssignmentRepository assignmentRepository;
-    private final LectureRepository lectureRepository;
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME.withZone(KST);
     
-    private final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME
-            .withZone(ZoneId.of("Asia/Seoul"));
+    private final DeadlineItemReader itemReader;
+    private final DeadlineQueryService deadlineQueryService;
+    private final ObjectWriter responseWriter;
+    private final ObjectWriter rangeWriter;
+    private final int rangeMaxDays;
+    private final int rangePageSize;
+    private final int rangeMaxPageSize;
     
-    public DeadlineController(StudentRepository studentRepository, 
-                             AssignmentRepository assignmentRepository,
-                             LectureRepository lectureRepository) {
-        this.studentRepository = studentRepository;
-        this.assignmentRepository = assignmentRepository;
-        this.lectureRepository = lectureRepository;
+    public DeadlineController(DeadlineItemReader itemReader,
+                             DeadlineQueryService deadlineQueryService,
+                             ObjectMapper objectMapper,
+                             @Value("${inhash.deadlines.range.max-days:93}") int rangeMaxDays,
+                             @Value("${inhash.deadlines.range.page-size:200}") int rangePageSize,
+                             @Value("${inhash.deadlines.range.max-page-size:1000}") int rangeMaxPageSize) {
+        this.itemReader = itemReader;
+        this.deadlineQueryService = deadlineQueryService;
+        this.responseWriter = objectMapper.writerFor(DeadlineListResponse.class);
+        this.rangeWriter = objectMapper.writerFor(DeadlineRangeResponse.class);
+        this.rangeMaxDays = Math.max(1, rangeMaxDays);
+        this.rangeMaxPageSize = Math.max(1, rangeMaxPageSize);
+        this.rangePageSize = Math.min(Math.max(1, rangePageSize), this.rangeMaxPageSize);
     }
     
     /**
      * 학생의 모든 과제/수업 조회
      */
     @GetMapping("/{studentId}")
-    public ResponseEntity<Map<String, Object>> getDeadlines(@PathVariable Long studentId) {
+    public ResponseEntity<?> getDeadlines(
+            @PathVariable Long studentId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         Map<String, Object> response = new HashMap<>();
         
         try {
-            Student student = studentRepository.findById(studentId).orElse(null);
-            if (student == null) {
+            Optional<Long> version = deadlineQueryService.findDataVersion(studentId);
+            if (version.isEmpty()) {
                 response.put("success", false);
                 response.put("error", "학생을 찾을 수 없습니다");
                 return ResponseEntity.badRequest().body(response);
             }
             
-            // 현재 시간
-            Instant now = Instant.now();
+            Instant now = currentSecond();
             
-            // 과제 조회 (마감되지 않은 것만)
-            List<Map<String, Object>> assignments = assignmentRepository.findByStudent(student)
-                    .stream()
-                    .filter(a -> a.getDueAt() == null || a.getDueAt().isAfter(now))
-                    .map(this::assignmentToMap)
-                    .collect(Collectors.toList());
-            
-            // 수업 조회 (마감되지 않은 것만)
-            List<Map<String, Object>> lectures = lectureRepository.findByStudent(student)
-                    .stream()
-                    .filter(l -> l.getDueAt() == null || l.getDueAt().isAfter(now))
-                    .map(this::lectureToMap)
-                    .collect(Collectors.toList());
-            
-            response.put("success", true);
-            response.put("assignments", assignments);
-            response.put("lectures", lectures);
+            // 마감되지 않은 과제/수업 (학생별 캐시, 제출 반영/완료 토글 시 무효화)
+            DeadlineQueryService.OpenItems open = deadlineQueryService.findOpen(studentId, version.get(), now);
+            String etag = etag("open", version.get(), nextChange(open.getItems(), now, true));
+            if (notModified(ifNoneMatch, etag)) {
+                return notModifiedResponse(etag);
+            }
             
-            System.out.println("Returning " + assignments.size() + " assignments and " + 
-                             lectures.size() + " lectures for student " + studentId);
+            DeadlineListResponse body = toResponse(open.getItems(), now);
+            System.out.println("Returning " + body.assignments().size() + " assignments and " + 
+                             body.lectures().size() + " lectures for student " + studentId);
             
-            return ResponseEntity.ok(response);
+            return okResponse(etag, body);
             
         } catch (Exception e) {
             response.put("success", false);
@@ -92,37 +123,40 @@ public class DeadlineController {
      * 학생의 모든 과제/수업 조회 (마감된 것 포함)
      */
     @GetMapping("/{studentId}/all")
-    public ResponseEntity<Map<String, Object>> getAllDeadlines(@PathVariable Long studentId) {
+    public ResponseEntity<?> getAllDeadlines(
+            @PathVariable Long studentId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         Map<String, Object> response = new HashMap<>();
         
         try {
-            Student student = studentRepository.findById(studentId).orElse(null);
-            if (student == null) {
+            Optional<Long> version = deadlineQueryService.findDataVersion(studentId);
+            if (version.isEmpty()) {
                 response.put("success", false);
                 response.put("error", "학생을 찾을 수 없습니다");
                 return ResponseEntity.badRequest().body(response);
             }
             
-            // 모든 과제 조회
-            List<Map<String, Object>> assignments = assignmentRepository.findByStudent(student)
-                    .stream()
-                    .map(this::assignmentToMap)
-                    .collect(Collectors.toList());
+            Instant now = currentSecond();
             
-            // 모든 수업 조회
-            List<Map<String, Object>> lectures = lectureRepository.findByStudent(student)
-                    .stream()
-                    .map(this::lectureToMap)
-                    .collect(Collectors.toList());
+            String stored = storedEtag(studentId, "all", "all", version.get(), now, ifNoneMatch);
+            if (stored != null && notModified(ifNoneMatch, stored)) {
+                return notModifiedResponse(stored);
+            }
             
-            response.put("success", true);
-            response.put("assignments", assignments);
-            response.put("lectures", lectures);
+            // 모든 과제/수업 조회 (한 문장)
+            List<DeadlineItem> items = itemReader.find(studentId, DeadlineItemReader.Filter.all());
+            long nextChange = nextChange(items, now, false);
+            deadlineQueryService.recordNextChange(studentId, "all", version.get(), nextChange);
+            String etag = etag("all", version.get(), nextChange);
+            if (notModified(ifNoneMatch, etag)) {
+                return notModifiedResponse(etag);
+            }
+            DeadlineListResponse body = toResponse(items, now);
             
-            System.out.println("Returning all " + assignments.size() + " assignments and " + 
-                             lectures.size() + " lectures for student " + studentId);
+            System.out.println("Returning all " + body.assignments().size() + " assignments and " + 
+                             body.lectures().size() + " lectures for student " + studentId);
             
-            return ResponseEntity.ok(response);
+            return okResponse(etag, body);
             
         } catch (Exception e) {
             response.put("success", false);
@@ -135,45 +169,41 @@ public class DeadlineController {
      * 오늘 마감인 항목 조회
      */
     @GetMapping("/{studentId}/today")
-    public ResponseEntity<Map<String, Object>> getTodayDeadlines(@PathVariable Long studentId) {
+    public ResponseEntity<?> getTodayDeadlines(
+            @PathVariable Long studentId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         Map<String, Object> response = new HashMap<>();
         
         try {
-            Student student = studentRepository.findById(studentId).orElse(null);
-            if (student == null) {
+            Optional<Long> version = deadlineQueryService.findDataVersion(studentId);
+            if (version.isEmpty()) {
                 response.put("success", false);
                 response.put("error", "학생을 찾을 수 없습니다");
                 return ResponseEntity.badRequest().body(response);
             }
             
+            Instant now = currentSecond();
+            
             // 오늘 시작과 끝
-            Instant todayStart = Instant.now().atZone(ZoneId.of("Asia/Seoul"))
-                    .toLocalDate().atStartOfDay(ZoneId.of("Asia/Seoul")).toInstant();
+            Instant todayStart = now.atZone(KST).toLocalDate().atStartOfDay(KST).toInstant();
             Instant todayEnd = todayStart.plusSeconds(86399); // 23:59:59
+            String key = "today:" + todayStart.getEpochSecond();
+            String stored = storedEtag(studentId, key, "today", version.get(), now, ifNoneMatch);
+            if (stored != null && notModified(ifNoneMatch, stored)) {
+                return notModifiedResponse(stored);
+            }
+            
+            // 오늘 마감 과제/수업 (한 문장), KST 자정이 지나면 대상 날짜가 바뀜
+            List<DeadlineItem> today = itemReader.find(studentId,
+                    DeadlineItemReader.Filter.dueBetween(todayStart, todayEnd));
+            long nextChange = Math.min(nextChange(today, now, false), todayStart.getEpochSecond() + 86400);
+            deadlineQueryService.recordNextChange(studentId, key, version.get(), nextChange);
+            String etag = etag("today", version.get(), nextChange);
+            if (notModified(ifNoneMatch, etag)) {
+                return notModifiedResponse(etag);
+            }
             
-            // 오늘 마감 과제
-            List<Map<String, Object>> todayAssignments = assignmentRepository.findByStudent(student)
-                    .stream()
-                    .filter(a -> a.getDueAt() != null && 
-                            a.getDueAt().isAfter(todayStart) && 
-                            a.getDueAt().isBefore(todayEnd))
-                    .map(this::assignmentToMap)
-                    .collect(Collectors.toList());
-            
-            // 오늘 마감 수업
-            List<Map<String, Object>> todayLectures = lectureRepository.findByStudent(student)
-                    .stream()
-                    .filter(l -> l.getDueAt() != null && 
-                            l.getDueAt().isAfter(todayStart) && 
-                            l.getDueAt().isBefore(todayEnd))
-                    .map(this::lectureToMap)
-                    .collect(Collectors.toList());
-            
-            response.put("success", true);
-            response.put("assignments", todayAssignments);
-            response.put("lectures", todayLectures);
-            
-            return ResponseEntity.ok(response);
+            return okResponse(etag, toResponse(today, now));
             
         } catch (Exception e) {
             response.put("success", false);
@@ -182,55 +212,257 @@ public class DeadlineController {
         }
     }
     
-    private Map<String, Object> assignmentToMap(Assignment assignment) {
-        Map<String, Object> map = new HashMap<>();
-        map.put("id", assignment.getId());
-        map.put("title", assignment.getTitle());
-        map.put("courseName", assignment.getCourseName() != null ? assignment.getCourseName() : "");
-        map.put("url", assignment.getUrl());
-        map.put("completed", assignment.getCompleted() != null ? assignment.getCompleted() : false);
-        map.put("type", "assignment");
+    /**
+     * 캘린더 기간 조회 (KST 날짜 from ~ to, 양 끝 포함, 마감일 없는 항목 제외)
+     * - mode=items: 마감 시각 순으로 limit개까지 날짜별로 묶어 반환, 더 있으면 nextCursor를 cursor로 넘겨 이어서 조회
+     * - mode=counts: 날짜별 과제/수업/미완료 개수만 반환 (월 보기용, 항목은 읽지 않음)
+     */
+    @GetMapping("/{studentId}/range")
+    public ResponseEntity<?> getRangeDeadlines(
+            @PathVariable Long studentId,
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(defaultValue = "items") String mode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Map<String, Object> response = new HashMap<>();
+        
+        LocalDate fromDate;
+        LocalDate toDate;
+        try {
+            fromDate = LocalDate.parse(from);
+            toDate = LocalDate.parse(to);
+        } catch (DateTimeParseException e) {
+            response.put("success", false);
+            response.put("error", "from/to는 yyyy-MM-dd 형식이어야 합니다");
+            return ResponseEntity.badRequest().body(response);
+        }
+        if (toDate.isBefore(fromDate) || ChronoUnit.DAYS.between(fromDate, toDate) >= rangeMaxDays) {
+            response.put("success", false);
+            response.put("error", "조회 기간은 1일 이상 " + rangeMaxDays + "일 이하여야 합니다");
+            return ResponseEntity.badRequest().body(response);
+        }
+        boolean countsMode = "counts".equals(mode);
+        if (!countsMode && !"items".equals(mode)) {
+            response.put("success", false);
+            response.put("error", "mode는 items 또는 counts입니다");
+            return ResponseEntity.badRequest().body(response);
+        }
         
-        if (assignment.getDueAt() != null) {
-            map.put("dueAt", formatter.format(assignment.getDueAt()));
-            map.put("dueDate", formatter.format(assignment.getDueAt())); // 캘린더용
-            
-            // 남은 일수 계산
-            long remainingSeconds = assignment.getDueAt().getEpochSecond() - Instant.now().getEpochSecond();
-            long remainingDays = remainingSeconds / 86400;
-            map.put("remainingDays", Math.max(0, remainingDays));
-        } else {
-            map.put("dueAt", null);
-            map.put("dueDate", null);
-            map.put("remainingDays", null);
+        DeadlineItemReader.Filter filter = DeadlineItemReader.Filter.dueWithin(
+                fromDate.atStartOfDay(KST).toInstant(), toDate.plusDays(1).atStartOfDay(KST).toInstant());
+        if (!countsMode && cursor != null && !cursor.isBlank()) {
+            DeadlineItemReader.Filter after = afterCursor(filter, cursor);
+            if (after == null) {
+                response.put("success", false);
+                response.put("error", "잘못된 cursor입니다");
+                return ResponseEntity.badRequest().body(response);
+            }
+            filter = after;
         }
+        int pageSize = limit != null ? Math.min(Math.max(1, limit), rangeMaxPageSize) : rangePageSize;
         
-        return map;
+        try {
+            Optional<Long> version = deadlineQueryService.findDataVersion(studentId);
+            if (version.isEmpty()) {
+                response.put("success", false);
+                response.put("error", "학생을 찾을 수 없습니다");
+                return ResponseEntity.badRequest().body(response);
+            }
+            
+            Instant now = currentSecond();
+            String etag;
+            DeadlineRangeResponse body;
+            if (countsMode) {
+                // 개수 모드 본문은 시각과 무관하므로 데이터 버전만으로 ETag를 만듦
+                etag = etag("range-counts", version.get());
+                if (notModified(ifNoneMatch, etag)) {
+                    return notModifiedResponse(etag);
+                }
+                List<DeadlineRangeResponse.Day> days = new ArrayList<>();
+                for (DeadlineItemReader.DayCount count : itemReader.countByKstDay(studentId, filter)) {
+                    days.add(new DeadlineRangeResponse.Day(count.getDay().toString(), null, null,
+                            new DeadlineRangeResponse.Counts(count.getAssignments(), count.getLectures(),
+                                    count.getIncomplete())));
+                }
+                body = new DeadlineRangeResponse(true, from, to, mode, days, null);
+            } else {
+                String key = "range:" + fromDate + ":" + toDate + ":" + pageSize + ":" + (cursor != null ? cursor : "");
+                String stored = storedEtag(studentId, key, "range", version.get(), now, ifNoneMatch);
+                if (stored != null && notModified(ifNoneMatch, stored)) {
+                    return notModifiedResponse(stored);
+                }
+                // 한 개 더 읽어 다음 페이지 여부 확인
+                List<DeadlineItem> items = itemReader.find(studentId, filter, pageSize + 1);
+                String nextCursor = null;
+                if (items.size() > pageSize) {
+                    items = items.subList(0, pageSize);
+                    nextCursor = encodeCursor(items.get(pageSize - 1));
+                }
+                long nextChange = nextChange(items, now, false);
+                deadlineQueryService.recordNextChange(studentId, key, version.get(), nextChange);
+                etag = etag("range", version.get(), nextChange);
+                if (notModified(ifNoneMatch, etag)) {
+                    return notModifiedResponse(etag);
+                }
+                body = new DeadlineRangeResponse(true, from, to, mode, groupByDay(items, now), nextCursor);
+            }
+            
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(rangeWriter.writeValueAsBytes(body));
+            
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("error", "데이터 조회 중 오류: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
     }
     
-    private Map<String, Object> lectureToMap(Lecture lecture) {
-        Map<String, Object> map = new HashMap<>();
-        map.put("id", lecture.getId());
-        map.put("title", lecture.getTitle());
-        map.put("courseName", lecture.getCourseName() != null ? lecture.getCourseName() : "");
-        map.put("url", lecture.getUrl());
-        map.put("completed", lecture.getCompleted() != null ? lecture.getCompleted() : false);
-        map.put("type", "lecture");
-        
-        if (lecture.getDueAt() != null) {
-            map.put("dueAt", formatter.format(lecture.getDueAt()));
-            map.put("lectureDate", formatter.format(lecture.getDueAt())); // 캘린더용
-            
-            // 남은 일수 계산
-            long remainingSeconds = lecture.getDueAt().getEpochSecond() - Instant.now().getEpochSecond();
-            long remainingDays = remainingSeconds / 86400;
-            map.put("remainingDays", Math.max(0, remainingDays));
-        } else {
-            map.put("dueAt", null);
-            map.put("lectureDate", null);
-            map.put("remainingDays", null);
+    /**
+     * 마감 시각 순 항목을 KST 날짜별로 묶음 (같은 날짜 항목은 연속해 있으므로 한 번 훑음)
+     */
+    static List<DeadlineRangeResponse.Day> groupByDay(List<DeadlineItem> items, Instant now) {
+        List<DeadlineRangeResponse.Day> days = new ArrayList<>();
+        int start = 0;
+        while (start < items.size()) {
+            LocalDate day = items.get(start).getDueAt().atZone(KST).toLocalDate();
+            int end = start + 1;
+            while (end < items.size() && items.get(end).getDueAt().atZone(KST).toLocalDate().equals(day)) {
+                end++;
+            }
+            DeadlineListResponse dayItems = toResponse(items.subList(start, end), now);
+            days.add(new DeadlineRangeResponse.Day(day.toString(), dayItems.assignments(), dayItems.lectures(), null));
+            start = end;
         }
-        
-        return map;
+        return days;
+    }
+    
+    /** 커서: "마감 epoch 초:나노초:ID:종류"를 URL-safe Base64로 인코딩 */
+    private static String encodeCursor(DeadlineItem item) {
+        String raw = item.getDueAt().getEpochSecond() + ":" + item.getDueAt().getNano() + ":" + item.getId()
+                + ":" + (item.getKind() == NormalizedItem.Kind.ASSIGNMENT ? "A" : "L");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /** 커서 다음 항목부터로 조건을 좁힘 (형식이 잘못되면 null) */
+    private static DeadlineItemReader.Filter afterCursor(DeadlineItemReader.Filter filter, String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 4 || !(parts[3].equals("A") || parts[3].equals("L"))) return null;
+            Instant dueAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            NormalizedItem.Kind kind = parts[3].equals("A") ? NormalizedItem.Kind.ASSIGNMENT : NormalizedItem.Kind.LECTURE;
+            return filter.after(dueAt, UUID.fromString(parts[2]), kind);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            return null;
+        }
+    }
+    
+    /** 초 단위로 내린 현재 시각 (남은 일수와 미마감 여부를 초 단위로 계산) */
+    private static Instant currentSecond() {
+        return Instant.ofEpochSecond(Instant.now().getEpochSecond());
+    }
+    
+    /**
+     * now 이후 응답 본문이 처음 달라지는 시각(epoch 초), 시각에 따라 바뀌는 값이 없으면 Long.MAX_VALUE
+     * - 남은 일수: 남은 초가 86400의 배수 아래로 내려가는 순간 1 줄어듦 (0이 되면 더 바뀌지 않음)
+     * - dropsWhenDue: 미마감 목록처럼 마감 시각이 지나면 빠지는 목록이면 그 순간도 포함
+     */
+    static long nextChange(List<DeadlineItem> items, Instant now, boolean dropsWhenDue) {
+        long nowSeconds = now.getEpochSecond();
+        long next = Long.MAX_VALUE;
+        for (DeadlineItem item : items) {
+            Instant due = item.getDueAt();
+            if (due == null) continue;
+            long dueSeconds = due.getEpochSecond();
+            long days = (dueSeconds - nowSeconds) / 86400;
+            if (days > 0) {
+                next = Math.min(next, dueSeconds - days * 86400 + 1);
+            }
+            if (dropsWhenDue) {
+                long drop = dueSeconds + (due.getNano() > 0 ? 1 : 0); // isOpenAt(now)이 false가 되는 첫 초
+                if (drop > nowSeconds) next = Math.min(next, drop);
+            }
+        }
+        return next;
+    }
+    
+    /**
+     * 보관된 다음 변경 시각으로 만든 ETag (If-None-Match가 없거나 보관된 값이 없으면 null, 항목을 읽어야 함)
+     */
+    private String storedEtag(Long studentId, String key, String view, long dataVersion, Instant now, String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return null;
+        OptionalLong nextChange = deadlineQueryService.findNextChange(studentId, key, dataVersion, now);
+        return nextChange.isPresent() ? etag(view, dataVersion, nextChange.getAsLong()) : null;
+    }
+    
+    private static String etag(String view, long dataVersion, long nextChange) {
+        return "\"" + view + "-" + dataVersion + "-" + (nextChange == Long.MAX_VALUE ? "0" : nextChange) + "\"";
+    }
+    
+    private static String etag(String view, long dataVersion) {
+        return "\"" + view + "-" + dataVersion + "\"";
+    }
+    
+    /**
+     * If-None-Match 헤더가 etag와 일치하는지 (목록/와일드카드 허용, W/ 접두사는 무시하는 약한 비교)
+     */
+    private static boolean notModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) return true;
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(etag)) return true;
+        }
+        return false;
+    }
+    
+    private static ResponseEntity<?> notModifiedResponse(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+    
+    private ResponseEntity<?> okResponse(String etag, DeadlineListResponse body) throws JsonProcessingException {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(responseWriter.writeValueAsBytes(body));
+    }
+    
+    /**
+     * 응답 레코드 생성 (now는 요청당 한 번 정한 기준 시각)
+     */
+    static DeadlineListResponse toResponse(List<DeadlineItem> items, Instant now) {
+        long nowSeconds = now.getEpochSecond();
+        List<DeadlineListResponse.AssignmentItem> a = new ArrayList<>();
+        List<DeadlineListResponse.LectureItem> l = new ArrayList<>();
+        for (DeadlineItem item : items) {
+            if (item.getKind() == NormalizedItem.Kind.ASSIGNMENT) {
+                a.add(new DeadlineListResponse.AssignmentItem(item.getId(), item.getTitle(), item.getCourseName(),
+                        item.getUrl(), item.isCompleted(), format(item), remainingDays(item, nowSeconds)));
+            } else {
+                l.add(new DeadlineListResponse.LectureItem(item.getId(), item.getTitle(), item.getCourseName(),
+                        item.getUrl(), item.isCompleted(), format(item), remainingDays(item, nowSeconds)));
+            }
+        }
+        return new DeadlineListResponse(true, a, l);
+    }
+    
+    private static String format(DeadlineItem item) {
+        return item.getDueAt() != null ? FORMATTER.format(item.getDueAt()) : null;
+    }
+    
+    /** 남은 일수 (마감이 지났으면 0, 마감일이 없으면 null) */
+    private static Long remainingDays(DeadlineItem item, long nowSeconds) {
+        if (item.getDueAt() == null) return null;
+        long remainingSeconds = item.getDueAt().getEpochSecond() - nowSeconds;
+        return Math.max(0, remainingSeconds / 86400);
     }
 }
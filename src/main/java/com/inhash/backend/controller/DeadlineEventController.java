@@ -0,0 +1,56 @@
+package com.inhash.backend.controller;
+
+import com.inhash.backend.service.DeadlineEventBroadcaster;
+import com.inhash.backend.service.DeadlineQueryService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+
+/**
+ * 마감 데이터 변경 이벤트 스트림 (Server-Sent Events)
+ * - 다른 기기에서 제출 반영(ingest), 완료 토글(toggle), 데이터 삭제(reset)가 일어나면 작은 이벤트를 보냅니다.
+ *   연결 직후에는 현재 데이터 버전(version)을 보내므로 클라이언트는 그 값으로 다시 조회할지 판단합니다.
+ * - 대기열이 넘쳐 이벤트가 버려졌으면 resync 이벤트가 오며, 이때는 목록을 다시 조회합니다.
+ * - 연결은 timeout-seconds 후 서버가 닫으므로 클라이언트(EventSource)는 자동 재연결합니다.
+ */
+@RestController
+@RequestMapping("/api/deadlines")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001", "http://127.0.0.1:3000", "http://127.0.0.1:3001"})
+public class DeadlineEventController {
+
+    private final DeadlineQueryService deadlineQueryService;
+    private final DeadlineEventBroadcaster eventBroadcaster;
+
+    public DeadlineEventController(DeadlineQueryService deadlineQueryService,
+                                   DeadlineEventBroadcaster eventBroadcaster) {
+        this.deadlineQueryService = deadlineQueryService;
+        this.eventBroadcaster = eventBroadcaster;
+    }
+
+    /**
+     * 학생의 변경 이벤트 구독
+     * - 본문 타입이 SseEmitter로 고정돼야 스트림으로 처리되므로, 실패는 본문 없이 상태 코드로만 알립니다
+     *   (학생 없음 404, 연결 수 초과 503 + Retry-After).
+     */
+    @GetMapping("/{studentId}/events")
+    public ResponseEntity<SseEmitter> subscribe(@PathVariable Long studentId) {
+        Optional<Long> version = deadlineQueryService.findDataVersion(studentId);
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        SseEmitter emitter = eventBroadcaster.subscribe(studentId, version.get());
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no") // 프록시(nginx) 버퍼링 끔
+                .body(emitter);
+    }
+}
@@ -1,6 +1,7 @@
 package com.inhash.backend.devtools.crawler;
 
 import com.inhash.backend.service.ClientCrawlService;
+import com.inhash.backend.service.IngestResult;
 import com.inhash.backend.web.dto.ClientCrawlDataDto;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -120,11 +121,11 @@ public class DevCrawlerService {
             ClientCrawlDataDto dto = convertToDto(rawData);
             
             // 기존 서비스로 처리
-            int imported = clientCrawlService.processCrawlData(studentId, dto);
+            IngestResult ingest = clientCrawlService.processCrawlData(studentId, dto);
             
             Map<String, Object> result = new HashMap<>();
             result.put("success", true);
-            result.put("imported", imported);
+            result.put("imported", ingest.getImported());
             result.put("message", "Server-side crawling completed");
             
             return result;
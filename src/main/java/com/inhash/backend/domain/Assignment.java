@@ -2,7 +2,10 @@ package com.inhash.backend.domain;
 
 import jakarta.persistence.*;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.Instant;
+import java.util.UUID;
 
 /**
  * 학생에게 부여된 "과제"를 표현합니다.
@@ -10,18 +13,19 @@ import java.time.Instant;
  * - 마감 시각(dueAt)은 KST 기준으로 파싱되어 저장됩니다.
  */
 @Entity
-@Table(name = "assignments")
+@Table(name = "assignments", indexes = @Index(name = "idx_assignments_student_due", columnList = "student_id, due_at"))
 public class Assignment {
     @Id
-    @Column(length = 255)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
     /**
      * 과제 식별자.
-     * 외부 LMS의 인스턴스 ID나 (제목|URL|코스|학생) 조합의 해시를 사용합니다.
+     * (학생|마감|제목|과목) 조합의 128비트 해시를 BINARY(16)으로 저장합니다 (ItemIds).
      */
-    private String id; // lmsInstanceId or URL hash
+    private UUID id;
     @Column(length = 200)
     private String courseName;  // 과목명 직접 저장
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY) // 조회 경로는 학생 행이 필요 없으므로 지연 로딩
     @JsonIgnore
     private Student student;
     @Column(length = 500)
@@ -33,8 +37,8 @@ public class Assignment {
     @Column
     private Boolean completed = false;
 
-    public String getId() { return id; }
-    public void setId(String id) { this.id = id; }
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
     public String getCourseName() { return courseName; }
     public void setCourseName(String courseName) { 
         this.courseName = courseName;
@@ -0,0 +1,41 @@
+package com.inhash.backend.domain;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * 멱등성 키로 처리한 요청의 저장된 응답 (다중 인스턴스용, inhash.idempotency.store=database)
+ * - idempotencyKey: "{범위}:{Idempotency-Key 헤더}" (예: submit:12:3f1c...)
+ * - status: pending(처리 중) / done(응답 저장됨)
+ * - responseStatus/responseBody: 재전송 요청에 그대로 돌려줄 HTTP 상태와 JSON 본문(TEXT)
+ */
+@Entity
+@Table(name = "idempotency_keys")
+public class IdempotencyRecord {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 255)
+    private String idempotencyKey;
+
+    @Column(length = 20)
+    private String status; // pending, done
+    private Integer responseStatus;
+    @Lob
+    private String responseBody;
+
+    private Instant createdAt = Instant.now();
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getIdempotencyKey() { return idempotencyKey; }
+    public void setIdempotencyKey(String idempotencyKey) { this.idempotencyKey = idempotencyKey; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public Integer getResponseStatus() { return responseStatus; }
+    public void setResponseStatus(Integer responseStatus) { this.responseStatus = responseStatus; }
+    public String getResponseBody() { return responseBody; }
+    public void setResponseBody(String responseBody) { this.responseBody = responseBody; }
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+}
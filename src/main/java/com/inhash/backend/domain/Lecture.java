@@ -2,7 +2,10 @@ package com.inhash.backend.domain;
 
 import jakarta.persistence.*;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.Instant;
+import java.util.UUID;
 
 /**
  * 학생이 수강해야 하는 "강의(차시)" 항목입니다.
@@ -10,15 +13,16 @@ import java.time.Instant;
  * - dueAt은 수강 가능 기간의 종료 시각을 의미합니다.
  */
 @Entity
-@Table(name = "lectures")
+@Table(name = "lectures", indexes = @Index(name = "idx_lectures_student_due", columnList = "student_id, due_at"))
 public class Lecture {
     @Id
-    @Column(length = 255)
-    /** 강의(차시) 식별자: 외부 인스턴스 ID 또는 (제목|URL|코스|학생) 해시 */
-    private String id; // lmsInstanceId or URL hash
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
+    /** 강의(차시) 식별자: (학생|마감|제목|과목) 128비트 해시, BINARY(16) (ItemIds) */
+    private UUID id;
     @Column(length = 200)
     private String courseName;  // 과목명 직접 저장
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY) // 조회 경로는 학생 행이 필요 없으므로 지연 로딩
     @JsonIgnore
     private Student student;
     @Column(length = 500)
@@ -30,8 +34,8 @@ public class Lecture {
     @Column
     private Boolean completed = false;
 
-    public String getId() { return id; }
-    public void setId(String id) { this.id = id; }
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
     public String getCourseName() { return courseName; }
     public void setCourseName(String courseName) { 
         this.courseName = courseName;
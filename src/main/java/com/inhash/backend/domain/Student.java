@@ -6,6 +6,8 @@ import jakarta.persistence.*;
  * 서비스의 기본 사용자(학생) 정보를 저장합니다.
  * - email은 로그인 식별자로 고유(unique)합니다.
  * - passwordHash는 현재 MD5로 저장되며, 추후 BCrypt로 강화 예정입니다.
+ * - dataVersion은 과제/수업이 바뀔 때마다(제출 반영, 완료 토글, 삭제) 1 증가하며 조회 API의 ETag로 쓰입니다.
+ * - calendarToken은 캘린더 구독 주소(/ics/{token})용 비밀 값이며 발급 전에는 NULL입니다.
  */
 @Entity
 @Table(name = "students")
@@ -18,6 +20,12 @@ public class Student {
     private String name;
     @Column(name = "password_hash", length = 255)
     private String passwordHash;
+    // 항목 데이터 버전 (StudentRepository.incrementDataVersion으로만 증가, 기존 행은 NULL = 0)
+    // 엔티티 저장(save)이 읽어 둔 이전 값으로 되돌리지 않도록 UPDATE 대상에서 제외
+    @Column(name = "data_version", updatable = false)
+    private Long dataVersion = 0L;
+    @Column(name = "calendar_token", unique = true, length = 64)
+    private String calendarToken;
 
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -27,6 +35,10 @@ public class Student {
     public void setName(String name) { this.name = name; }
     public String getPasswordHash() { return passwordHash; }
     public void setPasswordHash(String passwordHash) { this.passwordHash = passwordHash; }
+    public Long getDataVersion() { return dataVersion; }
+    public void setDataVersion(Long dataVersion) { this.dataVersion = dataVersion; }
+    public String getCalendarToken() { return calendarToken; }
+    public void setCalendarToken(String calendarToken) { this.calendarToken = calendarToken; }
 }
 
 
@@ -38,6 +38,14 @@ public class StudentUpdateStatus {
     @Column(name = "client_platform")
     private String clientPlatform; // iOS, Android, Web
     
+    // 마지막으로 반영한 항목 집합의 콘텐츠 해시 (동일 스냅샷 재전송 감지용)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+    
+    // 서버가 발급하는 스냅샷 버전 (항목 집합이 바뀔 때마다 1 증가, 델타 제출의 기준 버전)
+    @Column(name = "snapshot_version")
+    private Long snapshotVersion = 0L;
+    
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     
@@ -65,6 +73,12 @@ public class StudentUpdateStatus {
     
     public String getClientPlatform() { return clientPlatform; }
     public void setClientPlatform(String clientPlatform) { this.clientPlatform = clientPlatform; }
+    
+    public String getContentHash() { return contentHash; }
+    public void setContentHash(String contentHash) { this.contentHash = contentHash; }
+    
+    public Long getSnapshotVersion() { return snapshotVersion; }
+    public void setSnapshotVersion(Long snapshotVersion) { this.snapshotVersion = snapshotVersion; }
 }
 
 
@@ -8,6 +8,7 @@ import java.time.Instant;
  * - jobId: 외부에 제공되는 조회용 식별자(UUID)
  * - status: queued / running / completed / failed
  * - imported: 이번 실행에서 반영된 항목 수
+ * - snapshotVersion: 반영 후 학생의 스냅샷 버전 (델타 제출의 기준 버전)
  * - error: 실패 시 상세 메시지(TEXT)
  * - createdAt/startedAt/finishedAt: 실행 타임라인
  */
@@ -24,6 +25,7 @@ public class SyncJob {
     @Column(length = 50)
     private String status; // queued, running, completed, failed
     private Integer imported;
+    private Long snapshotVersion;
     @Lob
     private String error;
 
@@ -41,6 +43,8 @@ public class SyncJob {
     public void setStatus(String status) { this.status = status; }
     public Integer getImported() { return imported; }
     public void setImported(Integer imported) { this.imported = imported; }
+    public Long getSnapshotVersion() { return snapshotVersion; }
+    public void setSnapshotVersion(Long snapshotVersion) { this.snapshotVersion = snapshotVersion; }
     public String getError() { return error; }
     public void setError(String error) { this.error = error; }
     public Instant getCreatedAt() { return createdAt; }
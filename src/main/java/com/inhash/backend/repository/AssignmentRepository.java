@@ -1,19 +1,25 @@
 package com.inhash.backend.repository;
 
 import com.inhash.backend.domain.Assignment;
-import com.inhash.backend.domain.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.data.jpa.repository.Query;
 import java.util.List;
+import java.util.UUID;
 
-public interface AssignmentRepository extends JpaRepository<Assignment, String> {
+public interface AssignmentRepository extends JpaRepository<Assignment, UUID> {
     List<Assignment> findByStudentId(Long studentId);
-    List<Assignment> findByStudent(Student student);
     
-    @Modifying
-    @Transactional
-    void deleteByStudent(Student student);
+    /**
+     * 학생의 모든 항목 (조회용 컬럼만)
+     */
+    @Query("SELECT a.id AS id, a.title AS title, a.courseName AS courseName, a.url AS url, "
+            + "a.completed AS completed, a.dueAt AS dueAt FROM Assignment a WHERE a.student.id = ?1")
+    List<DeadlineItemView> findViewsByStudentId(Long studentId);
+    
+    /**
+     * 전체 항목 (조회용 컬럼만, /api/schedules)
+     */
+    @Query("SELECT a.id AS id, a.title AS title, a.courseName AS courseName, a.url AS url, "
+            + "a.completed AS completed, a.dueAt AS dueAt FROM Assignment a")
+    List<DeadlineItemView> findAllViews();
 }
-
-
@@ -0,0 +1,16 @@
+package com.inhash.backend.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 과제/수업 조회용 프로젝션 (응답에 필요한 컬럼만 SELECT, 학생 행은 읽지 않음)
+ */
+public interface DeadlineItemView {
+    UUID getId();
+    String getTitle();
+    String getCourseName();
+    String getUrl();
+    Boolean getCompleted();
+    Instant getDueAt();
+}
@@ -3,6 +3,8 @@ package com.inhash.backend.repository;
 import com.inhash.backend.domain.FcmToken;
 import com.inhash.backend.domain.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,10 +18,27 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
     List<FcmToken> findByStudent(Student student);
 
     Optional<FcmToken> findByToken(String token);
+    
+    /**
+     * 학생의 토큰 문자열만 조회 (학생 행은 읽지 않음)
+     */
+    @Query("SELECT t.token FROM FcmToken t WHERE t.student.id = ?1")
+    List<String> findTokensByStudentId(Long studentId);
+    
+    /**
+     * 전체 (학생 ID, 토큰) 목록 - 일일 알림 대상 선정용, 학생 ID 순
+     */
+    @Query("SELECT t.student.id AS studentId, t.token AS token FROM FcmToken t ORDER BY t.student.id")
+    List<StudentTokenView> findAllTokenViews();
 
     void deleteByToken(String token);
 
-    void deleteByStudent(Student student);
+    /**
+     * 학생의 토큰 일괄 삭제 (엔티티를 읽지 않고 DELETE 한 문장)
+     */
+    @Modifying
+    @Query("DELETE FROM FcmToken t WHERE t.student.id = ?1")
+    int deleteByStudentId(Long studentId);
 }
 
 
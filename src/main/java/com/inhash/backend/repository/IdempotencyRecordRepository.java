@@ -0,0 +1,23 @@
+package com.inhash.backend.repository;
+
+import com.inhash.backend.domain.IdempotencyRecord;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+    Optional<IdempotencyRecord> findByIdempotencyKey(String idempotencyKey);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.idempotencyKey = ?1 AND r.status = 'pending'")
+    int deletePending(String idempotencyKey);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < ?1")
+    int deleteCreatedBefore(Instant before);
+}
@@ -3,9 +3,15 @@ package com.inhash.backend.repository;
 import com.inhash.backend.domain.LMSAccount;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface LMSAccountRepository extends JpaRepository<LMSAccount, Long> {
     Optional<LMSAccount> findByStudentId(Long studentId);
+
+    @Modifying
+    @Query("DELETE FROM LMSAccount a WHERE a.student.id = ?1")
+    int deleteByStudentId(Long studentId);
 }
 
 
@@ -1,19 +1,25 @@
 package com.inhash.backend.repository;
 
 import com.inhash.backend.domain.Lecture;
-import com.inhash.backend.domain.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.data.jpa.repository.Query;
 import java.util.List;
+import java.util.UUID;
 
-public interface LectureRepository extends JpaRepository<Lecture, String> {
+public interface LectureRepository extends JpaRepository<Lecture, UUID> {
     List<Lecture> findByStudentId(Long studentId);
-    List<Lecture> findByStudent(Student student);
     
-    @Modifying
-    @Transactional
-    void deleteByStudent(Student student);
+    /**
+     * 학생의 모든 항목 (조회용 컬럼만)
+     */
+    @Query("SELECT l.id AS id, l.title AS title, l.courseName AS courseName, l.url AS url, "
+            + "l.completed AS completed, l.dueAt AS dueAt FROM Lecture l WHERE l.student.id = ?1")
+    List<DeadlineItemView> findViewsByStudentId(Long studentId);
+    
+    /**
+     * 전체 항목 (조회용 컬럼만, /api/schedules)
+     */
+    @Query("SELECT l.id AS id, l.title AS title, l.courseName AS courseName, l.url AS url, "
+            + "l.completed AS completed, l.dueAt AS dueAt FROM Lecture l")
+    List<DeadlineItemView> findAllViews();
 }
-
-
@@ -2,11 +2,32 @@ package com.inhash.backend.repository;
 
 import com.inhash.backend.domain.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface StudentRepository extends JpaRepository<Student, Long> {
     Optional<Student> findByEmail(String email);
+    
+    /**
+     * 학생의 항목 데이터 버전 (학생이 없으면 empty)
+     */
+    @Query("SELECT COALESCE(s.dataVersion, 0) FROM Student s WHERE s.id = ?1")
+    Optional<Long> findDataVersionById(Long studentId);
+    
+    /**
+     * 캘린더 구독 토큰으로 (학생 ID, 데이터 버전) 조회
+     */
+    @Query("SELECT s.id AS studentId, COALESCE(s.dataVersion, 0) AS dataVersion FROM Student s WHERE s.calendarToken = ?1")
+    Optional<StudentVersionView> findVersionByCalendarToken(String calendarToken);
+    
+    /**
+     * 항목 데이터 버전 1 증가 (진행 중인 트랜잭션이 있으면 같은 트랜잭션에서 실행)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Student s SET s.dataVersion = COALESCE(s.dataVersion, 0) + 1 WHERE s.id = ?1")
+    int incrementDataVersion(Long studentId);
 }
-
-
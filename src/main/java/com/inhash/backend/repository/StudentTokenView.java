@@ -0,0 +1,9 @@
+package com.inhash.backend.repository;
+
+/**
+ * (학생 ID, FCM 토큰) 프로젝션
+ */
+public interface StudentTokenView {
+    Long getStudentId();
+    String getToken();
+}
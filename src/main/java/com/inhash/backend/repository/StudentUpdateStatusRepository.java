@@ -2,7 +2,10 @@ package com.inhash.backend.repository;
 
 import com.inhash.backend.domain.Student;
 import com.inhash.backend.domain.StudentUpdateStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -20,6 +23,20 @@ public interface StudentUpdateStatusRepository extends JpaRepository<StudentUpda
     
     Optional<StudentUpdateStatus> findByStudentId(Long studentId);
     
+    /**
+     * 스냅샷 버전 비교/증가용 조회 (트랜잭션 끝까지 행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StudentUpdateStatus s WHERE s.student.id = ?1")
+    Optional<StudentUpdateStatus> findByStudentIdForUpdate(Long studentId);
+    
+    /**
+     * 계정 삭제용 일괄 삭제 (엔티티를 읽지 않고 DELETE 한 문장)
+     */
+    @Modifying
+    @Query("DELETE FROM StudentUpdateStatus s WHERE s.student.id = ?1")
+    int deleteByStudentId(Long studentId);
+    
     /**
      * 특정 시간 이전에 마지막으로 업데이트된 활성 학생들 조회
      * 미업데이트 알림 대상 선정용
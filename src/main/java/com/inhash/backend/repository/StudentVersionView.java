@@ -0,0 +1,9 @@
+package com.inhash.backend.repository;
+
+/**
+ * (학생 ID, 항목 데이터 버전) 프로젝션
+ */
+public interface StudentVersionView {
+    Long getStudentId();
+    Long getDataVersion();
+}
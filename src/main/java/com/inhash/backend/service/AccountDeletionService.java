@@ -0,0 +1,93 @@
+package com.inhash.backend.service;
+
+import com.inhash.backend.repository.FcmTokenRepository;
+import com.inhash.backend.repository.LMSAccountRepository;
+import com.inhash.backend.repository.StudentRepository;
+import com.inhash.backend.repository.StudentUpdateStatusRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 계정 삭제 (과제, 수업, FCM 토큰, 업데이트 상태, LMS 계정, 학생 순서로 연쇄 삭제)
+ * - 과제/수업은 트랜잭션 없이 기본 키 범위 단위로 지워 범위마다 커밋되고,
+ *   나머지는 엔티티를 읽지 않는 일괄 DELETE로 한 트랜잭션에서 지웁니다.
+ * - 진행 중인 제출 반영과 겹치지 않도록 학생 반영 잠금을 잡고 실행합니다.
+ * - deleteAccountAsync는 ingestExecutor에서 실행하므로 HTTP 요청은 삭제 완료를 기다리지 않습니다.
+ */
+@Service
+public class AccountDeletionService {
+
+    private final StudentRepository studentRepository;
+    private final FcmTokenRepository fcmTokenRepository;
+    private final StudentUpdateStatusRepository updateStatusRepository;
+    private final LMSAccountRepository lmsAccountRepository;
+    private final ItemBatchWriter itemBatchWriter;
+    private final StudentIngestLock ingestLock;
+    private final DeadlineQueryService deadlineQueryService;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor ingestExecutor;
+
+    public AccountDeletionService(StudentRepository studentRepository,
+                                  FcmTokenRepository fcmTokenRepository,
+                                  StudentUpdateStatusRepository updateStatusRepository,
+                                  LMSAccountRepository lmsAccountRepository,
+                                  ItemBatchWriter itemBatchWriter,
+                                  StudentIngestLock ingestLock,
+                                  DeadlineQueryService deadlineQueryService,
+                                  PlatformTransactionManager transactionManager,
+                                  @Qualifier("ingestExecutor") Executor ingestExecutor) {
+        this.studentRepository = studentRepository;
+        this.fcmTokenRepository = fcmTokenRepository;
+        this.updateStatusRepository = updateStatusRepository;
+        this.lmsAccountRepository = lmsAccountRepository;
+        this.itemBatchWriter = itemBatchWriter;
+        this.ingestLock = ingestLock;
+        this.deadlineQueryService = deadlineQueryService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ingestExecutor = ingestExecutor;
+    }
+
+    /**
+     * 계정과 관련 데이터를 모두 삭제
+     *
+     * @return 학생이 없으면 false
+     */
+    public boolean deleteAccount(Long studentId) {
+        return ingestLock.withLock(studentId, () -> {
+            if (!studentRepository.existsById(studentId)) {
+                return false;
+            }
+            long started = System.currentTimeMillis();
+            deadlineQueryService.markChanged(studentId); // 삭제 도중의 조회가 이전 ETag로 304를 받지 않도록
+            int assignments = itemBatchWriter.deleteByStudent(NormalizedItem.Kind.ASSIGNMENT, studentId);
+            int lectures = itemBatchWriter.deleteByStudent(NormalizedItem.Kind.LECTURE, studentId);
+            transactionTemplate.executeWithoutResult(tx -> {
+                fcmTokenRepository.deleteByStudentId(studentId);
+                updateStatusRepository.deleteByStudentId(studentId);
+                lmsAccountRepository.deleteByStudentId(studentId);
+                studentRepository.deleteById(studentId);
+            });
+            deadlineQueryService.invalidate(studentId);
+            System.out.println("Deleted account " + studentId + ": assignments=" + assignments
+                    + ", lectures=" + lectures + " (" + (System.currentTimeMillis() - started) + "ms)");
+            return true;
+        });
+    }
+
+    /**
+     * 계정 삭제를 백그라운드로 실행 (실패하면 로그만 남기고, 다시 요청하면 남은 데이터부터 이어서 삭제)
+     */
+    public void deleteAccountAsync(Long studentId) {
+        ingestExecutor.execute(() -> {
+            try {
+                deleteAccount(studentId);
+            } catch (Exception e) {
+                System.err.println("Failed to delete account " + studentId + ": " + e.getMessage());
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.inhash.backend.service;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -20,7 +21,31 @@ public class AsyncConfig {
         exec.initialize();
         return exec;
     }
-}
-
 
+    /**
+     * 클라이언트 크롤링 데이터 반영 워커 풀
+     * 학생별로 작업이 병합되므로 대기열 길이는 IngestQueueService의 max-pending으로 제한됩니다.
+     */
+    @Bean("ingestExecutor")
+    public Executor ingestExecutor(@Value("${inhash.ingest.workers:4}") int workers) {
+        ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
+        exec.setCorePoolSize(workers);
+        exec.setMaxPoolSize(workers);
+        exec.setThreadNamePrefix("ingest-");
+        exec.initialize();
+        return exec;
+    }
 
+    /**
+     * SSE 이벤트 전송 풀 (연결 유지에는 쓰지 않고, 대기열에 이벤트가 있는 구독자에게 쓸 때만 사용)
+     */
+    @Bean("sseExecutor")
+    public Executor sseExecutor(@Value("${inhash.sse.sender-threads:4}") int threads) {
+        ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
+        exec.setCorePoolSize(threads);
+        exec.setMaxPoolSize(threads);
+        exec.setThreadNamePrefix("sse-");
+        exec.initialize();
+        return exec;
+    }
+}
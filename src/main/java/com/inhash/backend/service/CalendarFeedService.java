@@ -0,0 +1,235 @@
+package com.inhash.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inhash.backend.domain.Student;
+import com.inhash.backend.repository.StudentRepository;
+import com.inhash.backend.repository.StudentVersionView;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 학생별 iCalendar(ICS) 구독 피드 (/ics/{token})
+ * - 캘린더 앱은 몇 분마다 같은 주소를 다시 받아가므로, 구독 요청은 토큰으로 학생 ID와 데이터 버전만 읽고
+ *   버전이 같으면 304, 다르면 캐시된 항목으로 문서를 만듭니다.
+ * - 캐시에는 완성된 문서 대신 항목 스냅샷(DeadlineItem)을 데이터 버전과 함께 보관합니다.
+ *   제출 반영/완료 토글 때 데이터 버전이 오르므로 별도 무효화 없이 다음 요청에서 다시 읽습니다.
+ * - 문서는 write로 응답 스트림에 VEVENT 단위로 바로 써서 전체 문서를 메모리에 만들지 않습니다.
+ * - 피드에는 KST 기준 오늘에서 past-days일 전 이후 마감 항목만 넣으며(마감일 없는 항목 제외),
+ *   DTSTAMP도 그 날짜로 고정해 같은 날·같은 버전이면 문서가 항상 같습니다.
+ */
+@Service
+public class CalendarFeedService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter ICS_UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final StudentRepository studentRepository;
+    private final DeadlineItemReader itemReader;
+    private final SecureRandom random = new SecureRandom();
+    private final Cache<Long, FeedItems> cache;
+    private final int pastDays;
+
+    public CalendarFeedService(StudentRepository studentRepository,
+                               DeadlineItemReader itemReader,
+                               MeterRegistry meterRegistry,
+                               @Value("${inhash.ics.past-days:30}") int pastDays,
+                               @Value("${inhash.ics.cache.max-size:10000}") long maxSize,
+                               @Value("${inhash.ics.cache.ttl-seconds:3600}") long ttlSeconds) {
+        this.studentRepository = studentRepository;
+        this.itemReader = itemReader;
+        this.pastDays = Math.max(0, pastDays);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ics");
+    }
+
+    /**
+     * 구독 토큰 발급 (이미 있으면 그대로 반환, rotate면 새로 발급해 이전 주소를 무효화)
+     *
+     * @return 학생이 없으면 empty
+     */
+    @Transactional
+    public Optional<String> issueToken(Long studentId, boolean rotate) {
+        Optional<Student> found = studentRepository.findById(studentId);
+        if (found.isEmpty()) return Optional.empty();
+        Student student = found.get();
+        if (rotate || student.getCalendarToken() == null) {
+            byte[] bytes = new byte[32];
+            random.nextBytes(bytes);
+            student.setCalendarToken(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes));
+            studentRepository.save(student);
+        }
+        return Optional.of(student.getCalendarToken());
+    }
+
+    /**
+     * 토큰으로 구독 대상 조회 (ETag 계산용, 항목은 읽지 않음)
+     *
+     * @return 토큰이 없거나 형식이 맞지 않으면 empty
+     */
+    public Optional<Feed> findFeed(String token) {
+        if (token == null || token.isEmpty() || token.length() > 64) return Optional.empty();
+        Optional<StudentVersionView> view = studentRepository.findVersionByCalendarToken(token);
+        if (view.isEmpty()) return Optional.empty();
+        LocalDate windowStart = LocalDate.now(KST).minusDays(pastDays);
+        return Optional.of(new Feed(view.get().getStudentId(), view.get().getDataVersion(), windowStart));
+    }
+
+    /**
+     * 피드 문서를 out에 씀 (항목은 캐시에서, 버전이나 기간이 다르면 다시 읽음)
+     */
+    public void write(Feed feed, OutputStream out) throws IOException {
+        List<DeadlineItem> items = items(feed);
+        String stamp = ICS_UTC.format(feed.windowStart.atStartOfDay(KST).toInstant());
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        line(writer, "BEGIN:VCALENDAR");
+        line(writer, "VERSION:2.0");
+        line(writer, "PRODID:-//InHash//Deadlines//KO");
+        line(writer, "CALSCALE:GREGORIAN");
+        line(writer, "METHOD:PUBLISH");
+        line(writer, "X-WR-CALNAME:" + escape("InHash 마감"));
+        line(writer, "X-WR-TIMEZONE:Asia/Seoul");
+        line(writer, "REFRESH-INTERVAL;VALUE=DURATION:PT15M");
+        for (DeadlineItem item : items) {
+            boolean assignment = item.getKind() == NormalizedItem.Kind.ASSIGNMENT;
+            String due = ICS_UTC.format(item.getDueAt());
+            line(writer, "BEGIN:VEVENT");
+            line(writer, "UID:" + item.getId() + "@inhash");
+            line(writer, "DTSTAMP:" + stamp);
+            // DTEND는 DTSTART보다 늦어야 하므로 넣지 않음 (DATE-TIME DTSTART만 있으면 그 시각의 이벤트)
+            line(writer, "DTSTART:" + due);
+            line(writer, "SUMMARY:" + escape((item.isCompleted() ? "(완료) " : "")
+                    + (assignment ? "[과제] " : "[수업] ") + item.getTitle()));
+            if (!item.getCourseName().isEmpty()) {
+                line(writer, "DESCRIPTION:" + escape(item.getCourseName()));
+            }
+            String url = uri(item.getUrl());
+            if (!url.isEmpty()) {
+                line(writer, "URL:" + url);
+            }
+            line(writer, "TRANSP:TRANSPARENT");
+            line(writer, "END:VEVENT");
+        }
+        line(writer, "END:VCALENDAR");
+        writer.flush();
+    }
+
+    private List<DeadlineItem> items(Feed feed) {
+        FeedItems cached = cache.getIfPresent(feed.studentId);
+        if (cached != null && cached.dataVersion == feed.dataVersion && cached.windowStart.equals(feed.windowStart)) {
+            return cached.items;
+        }
+        Instant from = feed.windowStart.atStartOfDay(KST).toInstant();
+        List<DeadlineItem> items = itemReader.find(feed.studentId, DeadlineItemReader.Filter.dueFrom(from));
+        // 조회 사이에 버전이 더 올라갔을 수 있으므로 더 높은 버전만 덮어씀
+        cache.asMap().merge(feed.studentId, new FeedItems(feed.dataVersion, feed.windowStart, items),
+                (x, y) -> x.dataVersion > y.dataVersion ? x : y);
+        return items;
+    }
+
+    /**
+     * 한 줄 쓰기 (CRLF, 75옥텟 넘으면 접어서 다음 줄을 공백으로 시작, UTF-8 문자는 자르지 않음)
+     */
+    private static void line(Writer writer, String content) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int cp = content.codePointAt(i);
+            int size = cp < 0x80 ? 1 : cp < 0x800 ? 2 : cp < 0x10000 ? 3 : 4;
+            if (octets + size > MAX_LINE_OCTETS) {
+                writer.write("\r\n ");
+                octets = 1;
+            }
+            writer.write(content, i, Character.charCount(cp));
+            octets += size;
+            i += Character.charCount(cp);
+        }
+        writer.write("\r\n");
+    }
+
+    /** URI 값 (CR/LF 등 제어 문자를 빼서 줄바꿈으로 다른 속성이 끼어들지 않게 함) */
+    private static String uri(String url) {
+        if (url == null) return "";
+        StringBuilder sb = new StringBuilder(url.length());
+        for (int i = 0; i < url.length(); i++) {
+            char c = url.charAt(i);
+            if (!Character.isISOControl(c)) sb.append(c);
+        }
+        return sb.toString().trim();
+    }
+
+    /** TEXT 값 이스케이프 (RFC 5545 3.3.11) */
+    private static String escape(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length() + 8);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case ';' -> sb.append("\\;");
+                case ',' -> sb.append("\\,");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> { }
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 구독 대상 (학생 ID, 데이터 버전, 피드 시작 날짜)
+     */
+    public static final class Feed {
+        private final Long studentId;
+        private final long dataVersion;
+        private final LocalDate windowStart;
+
+        Feed(Long studentId, long dataVersion, LocalDate windowStart) {
+            this.studentId = studentId;
+            this.dataVersion = dataVersion;
+            this.windowStart = windowStart;
+        }
+
+        /** 강한 ETag (같은 버전·같은 시작 날짜면 문서가 같음) */
+        public String etag() {
+            return "\"ics-" + dataVersion + "-" + windowStart + "\"";
+        }
+    }
+
+    private static final class FeedItems {
+        private final long dataVersion;
+        private final LocalDate windowStart;
+        private final List<DeadlineItem> items;
+
+        FeedItems(long dataVersion, LocalDate windowStart, List<DeadlineItem> items) {
+            this.dataVersion = dataVersion;
+            this.windowStart = windowStart;
+            this.items = items;
+        }
+    }
+}
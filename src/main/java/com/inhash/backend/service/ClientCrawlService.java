@@ -3,328 +3,414 @@ package com.inhash.backend.service;
 import com.inhash.backend.domain.*;
 import com.inhash.backend.repository.*;
 import com.inhash.backend.web.dto.ClientCrawlDataDto;
+import com.inhash.backend.web.dto.ClientCrawlDeltaDto;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * 클라이언트에서 크롤링한 데이터를 처리하는 서비스
  * LMS 계정을 서버에 저장하지 않고, 클라이언트에서 직접 크롤링한 데이터만 수신
+ * 같은 학생의 반영/삭제는 StudentIngestLock으로 직렬화하며, 잠금 안에서 트랜잭션을 시작해 커밋 후에 잠금을 풉니다.
  */
 @Service
 public class ClientCrawlService {
     
     private final StudentRepository studentRepository;
     // Course 테이블 더 이상 사용하지 않음
-    private final AssignmentRepository assignmentRepository;
-    private final LectureRepository lectureRepository;
     private final StudentUpdateStatusRepository updateStatusRepository;
     private final SyncLogRepository syncLogRepository;
+    private final ItemBatchWriter itemBatchWriter;
+    private final CrawlItemNormalizer crawlItemNormalizer;
+    private final IngestMetrics metrics;
+    private final IngestDebugLog debugLog;
+    private final StudentIngestLock ingestLock;
+    private final DeadlineQueryService deadlineQueryService;
+    private final DeadlineEventBroadcaster eventBroadcaster;
+    private final TransactionTemplate transactionTemplate;
     
     public ClientCrawlService(
             StudentRepository studentRepository,
-            AssignmentRepository assignmentRepository,
-            LectureRepository lectureRepository,
             StudentUpdateStatusRepository updateStatusRepository,
-            SyncLogRepository syncLogRepository) {
+            SyncLogRepository syncLogRepository,
+            ItemBatchWriter itemBatchWriter,
+            CrawlItemNormalizer crawlItemNormalizer,
+            IngestMetrics metrics,
+            IngestDebugLog debugLog,
+            StudentIngestLock ingestLock,
+            DeadlineQueryService deadlineQueryService,
+            DeadlineEventBroadcaster eventBroadcaster,
+            PlatformTransactionManager transactionManager) {
         this.studentRepository = studentRepository;
-        this.assignmentRepository = assignmentRepository;
-        this.lectureRepository = lectureRepository;
         this.updateStatusRepository = updateStatusRepository;
         this.syncLogRepository = syncLogRepository;
+        this.itemBatchWriter = itemBatchWriter;
+        this.crawlItemNormalizer = crawlItemNormalizer;
+        this.metrics = metrics;
+        this.debugLog = debugLog;
+        this.ingestLock = ingestLock;
+        this.deadlineQueryService = deadlineQueryService;
+        this.eventBroadcaster = eventBroadcaster;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
     
     /**
-     * 과목명 정리 (불필요한 접두사 제거)
+     * 학생 데이터 삭제
+     * - 항목 삭제는 ItemBatchWriter.deleteByStudent가 범위마다 커밋하도록 트랜잭션 밖에서 실행합니다
+     *   (AccountDeletionService와 같음). 트랜잭션은 상태 초기화와 버전 증가에만 씁니다.
+     * - 콘텐츠 해시를 먼저 비우고 스냅샷 버전을 올리므로, 도중에 실패해도 다음 제출은 건너뛰지 않고 다시 반영되며
+     *   삭제 전 버전을 기준으로 한 델타는 거절됩니다. 다시 요청하면 남은 항목부터 이어서 지웁니다.
      */
-    private String cleanCourseName(String courseName) {
-        if (courseName == null) return "";
-        
-        // 제거할 접두사 패턴들
-        String[] prefixesToRemove = {
-            "비러닝학부",
-            "오프라인학부",
-            "원격활용학부",
-            "블렌디드러닝학부",
-            "온라인학부",
-            "비대면학부",
-            "대면학부"
-        };
-        
-        String cleaned = courseName;
-        for (String prefix : prefixesToRemove) {
-            if (cleaned.startsWith(prefix)) {
-                cleaned = cleaned.substring(prefix.length()).trim();
-                break;
+    public boolean deleteStudentData(Long studentId) {
+        return ingestLock.withLock(studentId, () -> {
+            Student student = transactionTemplate.execute(tx -> resetStatus(studentId));
+            if (student == null) {
+                return false;
             }
+            
+            // 학생의 모든 과제와 수업 삭제 (기본 키 범위 단위 일괄 DELETE, 엔티티를 읽지 않음)
+            itemBatchWriter.deleteByStudent(NormalizedItem.Kind.ASSIGNMENT, student.getId());
+            itemBatchWriter.deleteByStudent(NormalizedItem.Kind.LECTURE, student.getId());
+            deadlineQueryService.markChanged(student.getId()); // 삭제가 끝난 상태의 버전
+            eventBroadcaster.publishReset(student.getId());
+            
+            System.out.println("Deleted all data for student: " + studentId);
+            return true;
+        });
+    }
+    
+    private Student resetStatus(Long studentId) {
+        Student student = studentRepository.findById(studentId).orElse(null);
+        if (student == null) {
+            return null;
         }
-        
-        return cleaned;
+        // 저장된 콘텐츠 해시도 초기화해야 다음 동일 스냅샷이 다시 반영됨
+        // 스냅샷 버전도 올려서 삭제 전 버전을 기준으로 한 델타는 거절되도록 함
+        updateStatusRepository.findByStudent(student).ifPresent(status -> {
+            status.setContentHash(null);
+            status.setSnapshotVersion(currentVersion(status) + 1);
+            updateStatusRepository.save(status);
+        });
+        deadlineQueryService.markChanged(student.getId()); // 삭제 도중의 조회가 이전 ETag로 304를 받지 않도록
+        return student;
     }
     
     /**
-     * 학생 데이터 삭제
+     * DTO로 받은 크롤링 데이터 반영 (개발용 서버 크롤링 경로)
      */
-    @Transactional
-    public boolean deleteStudentData(Long studentId) {
-        Student student = studentRepository.findById(studentId).orElse(null);
-        if (student == null) {
-            return false;
+    public IngestResult processCrawlData(Long studentId, ClientCrawlDataDto data) {
+        long started = System.nanoTime();
+        IngestPayload.Builder builder = IngestPayload.builder(studentId, crawlItemNormalizer)
+                .clientVersion(data.getClientVersion())
+                .clientPlatform(data.getClientPlatform())
+                .crawledAt(data.getCrawledAt())
+                .courseCount(data.getCourses() != null ? data.getCourses().size() : 0);
+        if (data.getItems() != null) {
+            for (ClientCrawlDataDto.ItemDto item : data.getItems()) {
+                builder.addItem(item.getType(), item.getCourseName(), item.getTitle(), item.getDue());
+            }
         }
-        
-        // 학생의 모든 과제와 수업 삭제
-        assignmentRepository.deleteByStudent(student);
-        lectureRepository.deleteByStudent(student);
-        
-        System.out.println("Deleted all data for student: " + studentId);
-        return true;
+        IngestPayload payload = builder.build();
+        metrics.recordParse(payload, System.nanoTime() - started);
+        return processPayload(studentId, payload);
+    }
+    
+    /**
+     * 학생의 업데이트 상태 조회 (마지막 업데이트 시각, 스냅샷 버전)
+     */
+    @Transactional(readOnly = true)
+    public Optional<StudentUpdateStatus> findUpdateStatus(Long studentId) {
+        return updateStatusRepository.findByStudentId(studentId);
     }
     
-    @Transactional
-    public int processCrawlData(Long studentId, ClientCrawlDataDto data) {
+    /**
+     * 정규화된 제출 데이터 반영
+     */
+    public IngestResult processPayload(Long studentId, IngestPayload data) {
+        return processPayload(studentId, data, true);
+    }
+    
+    /**
+     * 정규화된 제출 데이터 반영
+     *
+     * @param recordSyncLog false면 학생별 SyncLog를 남기지 않음 (배치 제출은 배치 단위로 하나만 기록)
+     */
+    public IngestResult processPayload(Long studentId, IngestPayload data, boolean recordSyncLog) {
+        return ingestLock.withLock(studentId,
+                () -> transactionTemplate.execute(tx -> applyPayload(studentId, data, recordSyncLog)));
+    }
+    
+    private IngestResult applyPayload(Long studentId, IngestPayload data, boolean recordSyncLog) {
         SyncLog log = new SyncLog();
         log.setSource("client:" + studentId + ":" + data.getClientPlatform());
+        boolean recordLog = recordSyncLog;
         
         try {
-            Student student = studentRepository.findById(studentId).orElse(null);
+            Student student = findStudent(studentId);
             if (student == null) {
-                // 이메일로 먼저 조회 (중복 방지)
-                String email = "client-" + String.valueOf(studentId) + "@local";
-                student = studentRepository.findByEmail(email).orElse(null);
-                
-                if (student == null) {
-                    // 테스트/초기 온보딩 편의: 학생이 없으면 임시로 생성
-                    Student ns = new Student();
-                    ns.setEmail(email);
-                    ns.setName("Client " + String.valueOf(studentId));
-                    ns.setPasswordHash("NOT_USED"); // 클라이언트 크롤링에서는 사용 안 함
-                    student = studentRepository.save(ns);
-                }
+                // 테스트/초기 온보딩 편의: 학생이 없으면 임시로 생성
+                Student ns = new Student();
+                ns.setEmail(clientEmail(studentId));
+                ns.setName("Client " + String.valueOf(studentId));
+                ns.setPasswordHash("NOT_USED"); // 클라이언트 크롤링에서는 사용 안 함
+                student = studentRepository.save(ns);
             }
             
             // 과목 정보는 더 이상 별도 테이블에 저장하지 않음
             // Assignment와 Lecture에 과목명을 직접 저장
             
-            // 디버깅: 받은 데이터 확인
-            if (data.getItems() != null && !data.getItems().isEmpty()) {
-                System.out.println("\n=== First 10 items from client ===");
-                int debugCount = 0;
-                for (ClientCrawlDataDto.ItemDto item : data.getItems()) {
-                    if (debugCount++ >= 10) break;
-                    System.out.println(String.format("  [%s] %s -> Course: '%s'", 
-                        item.getType(), item.getTitle(), item.getCourseName()));
+            // 1) 종류별로 분리 (같은 ID가 여러 번 오면 마지막 값 사용)
+            Map<UUID, NormalizedItem> incomingAssignments = new LinkedHashMap<>();
+            Map<UUID, NormalizedItem> incomingLectures = new LinkedHashMap<>();
+            for (NormalizedItem item : data.getItems()) {
+                if (item.getKind() == NormalizedItem.Kind.ASSIGNMENT) {
+                    incomingAssignments.put(item.getId(), item);
+                } else {
+                    incomingLectures.put(item.getId(), item);
                 }
-                System.out.println();
             }
             
-            // 과제 및 수업 정보 처리
-            int imported = 0;
-            int debugIdCount = 0; // ID 디버깅용 카운터
-            Instant nowKst = Instant.now();
-            Instant oneMonthLater = nowKst.plus(30, java.time.temporal.ChronoUnit.DAYS);
-            
-                // 기존 학생의 과제/수업 삭제 (새 데이터로 대체)
-                try {
-                    assignmentRepository.deleteByStudent(student);
-                    lectureRepository.deleteByStudent(student);
-                    assignmentRepository.flush();
-                    lectureRepository.flush();
-                } catch (Exception e) {
-                    // 삭제 실패 시 로그만 남기고 계속 진행
-                    System.err.println("Failed to delete existing data: " + e.getMessage());
-                }
-            
-            if (data.getItems() != null) {
-                for (ClientCrawlDataDto.ItemDto item : data.getItems()) {
-                    if (item.getCourseName() == null || item.getTitle() == null) {
-                        continue;
-                    }
-                    
-                    // 과목명 정리 (불필요한 접두사 제거)
-                    String originalCourseName = item.getCourseName();
-                    String cleanedCourseName = cleanCourseName(originalCourseName);
-                    
-                    // 과목명에서 코드 부분만 추출 (더 짧고 명확하게)
-                    // 예: "디지털논리회로[202502-EEC2106-001]박재현" -> "디지털논리회로"
-                    int bracketIndex = cleanedCourseName.indexOf('[');
-                    if (bracketIndex > 0) {
-                        cleanedCourseName = cleanedCourseName.substring(0, bracketIndex).trim();
-                    }
-                    
-                    // 과목명 길이 제한 (50자로 늘림)
-                    if (cleanedCourseName.length() > 50) {
-                        cleanedCourseName = cleanedCourseName.substring(0, 50);
-                    }
-                    
-                    // 디버깅: 실제 과목 매칭 상황 확인
-                    if (item.getTitle().toLowerCase().contains("vivado")) {
-                        System.out.println("📍 Found 'vivado' item: '" + item.getTitle() + 
-                            "' from original course: '" + originalCourseName + 
-                            "' -> cleaned: '" + cleanedCourseName + "'");
-                    }
-                    
-                    Instant dueAt = parseDue(item.getDue());
-                    
-                    // 과거 마감 항목 제외
-                    if (dueAt != null && dueAt.isBefore(nowKst)) {
-                        continue;
-                    }
-                    
-                    // 1달 이후 마감 항목 제외
-                    if (dueAt != null && dueAt.isAfter(oneMonthLater)) {
-                        continue;
-                    }
-                    
-                    // 고유 ID 생성 - 제목, 학생ID, 과목명, 마감일로 생성
-                    // 과목명도 포함하여 같은 제목이라도 다른 과목이면 다른 ID
-                    String idSource = item.getTitle() + "|" + cleanedCourseName + "|" + studentId + "|" + 
-                                    (item.getDue() != null ? item.getDue() : "NO_DUE");
-                    String id = digest(idSource);
-                    
-                    // 디버깅: ID 생성 확인 (처음 몇 개만)
-                    if (debugIdCount++ < 5) {
-                        System.out.println("ID Source: " + idSource + " -> ID: " + id);
-                    }
-                    
-                        if ("assignment".equalsIgnoreCase(item.getType())) {
-                            try {
-                                Assignment existing = assignmentRepository.findById(id).orElse(null);
-                                if (existing == null) {
-                                    // 새로운 과제 생성
-                                    Assignment assignment = new Assignment();
-                                    assignment.setId(id);
-                                    assignment.setCourseName(cleanedCourseName);
-                                    assignment.setTitle(item.getTitle());
-                                    assignment.setUrl(null); // URL 저장하지 않음 (개인정보 보호)
-                                    assignment.setDueAt(dueAt);
-                                    assignment.setStudent(student);
-                                    assignmentRepository.saveAndFlush(assignment);
-                                    imported++;
-                                    System.out.println("✓ Saved assignment: " + item.getTitle() + " -> " + cleanedCourseName);
-                                } else {
-                                    // 이미 존재하는 경우 업데이트만
-                                    if (!cleanedCourseName.equals(existing.getCourseName())) {
-                                        System.out.println("⚠ Assignment '" + item.getTitle() + 
-                                            "' already in: " + existing.getCourseName() + 
-                                            " (not " + cleanedCourseName + ")");
-                                    }
-                                    // 마감일 업데이트
-                                    if (dueAt != null && !dueAt.equals(existing.getDueAt())) {
-                                        existing.setDueAt(dueAt);
-                                        assignmentRepository.save(existing);
-                                    }
-                                }
-                            } catch (Exception e) {
-                                System.err.println("Error saving assignment: " + item.getTitle() + " - " + e.getMessage());
-                            }
-                        } else if ("class".equalsIgnoreCase(item.getType()) || "lecture".equalsIgnoreCase(item.getType())) {
-                            try {
-                                Lecture existing = lectureRepository.findById(id).orElse(null);
-                                if (existing == null) {
-                                    // 새로운 강의 생성
-                                    Lecture lecture = new Lecture();
-                                    lecture.setId(id);
-                                    lecture.setCourseName(cleanedCourseName);
-                                    lecture.setTitle(item.getTitle());
-                                    lecture.setUrl(null); // URL 저장하지 않음 (개인정보 보호)
-                                    lecture.setDueAt(dueAt);
-                                    lecture.setStudent(student);
-                                    lectureRepository.saveAndFlush(lecture);
-                                    imported++;
-                                    System.out.println("✓ Saved lecture: " + item.getTitle() + " -> " + cleanedCourseName);
-                                } else {
-                                    // 이미 존재하는 경우 업데이트만
-                                    if (!cleanedCourseName.equals(existing.getCourseName())) {
-                                        System.out.println("⚠ Lecture '" + item.getTitle() + 
-                                            "' already in: " + existing.getCourseName() + 
-                                            " (not " + cleanedCourseName + ")");
-                                    }
-                                    // 마감일 업데이트
-                                    if (dueAt != null && !dueAt.equals(existing.getDueAt())) {
-                                        existing.setDueAt(dueAt);
-                                        lectureRepository.save(existing);
-                                    }
-                                }
-                            } catch (Exception e) {
-                                System.err.println("Error saving lecture: " + item.getTitle() + " - " + e.getMessage());
-                            }
-                        }
-                }
-            }
-            
-            // 업데이트 상태 기록 (lambda에서 비-final 변수 참조 회피)
-            StudentUpdateStatus status = updateStatusRepository.findByStudent(student)
+            long diffStarted = System.nanoTime();
+            // 2) 직전 반영분과 콘텐츠 해시가 같으면 항목 테이블은 건드리지 않음
+            // 스냅샷 버전 비교/증가가 델타 제출과 겹치지 않도록 상태 행을 잠금
+            StudentUpdateStatus status = updateStatusRepository.findByStudentIdForUpdate(student.getId())
                     .orElseGet(StudentUpdateStatus::new);
             if (status.getStudent() == null) {
                 status.setStudent(student);
             }
+            List<NormalizedItem> incomingAll = new ArrayList<>(incomingAssignments.size() + incomingLectures.size());
+            incomingAll.addAll(incomingAssignments.values());
+            incomingAll.addAll(incomingLectures.values());
+            String contentHash = ItemFingerprint.of(incomingAll);
             
-            status.setLastUpdatedAt(Instant.now());
-            status.setClientVersion(data.getClientVersion());
-            status.setClientPlatform(data.getClientPlatform());
-            status.setNotificationCount(0); // 업데이트 성공 시 알림 카운트 리셋
-            updateStatusRepository.save(status);
+            if (status.getId() != null && contentHash.equals(status.getContentHash())) {
+                recordLog = false; // 동일 스냅샷은 SyncLog도 남기지 않음
+                metrics.record(IngestMetrics.Stage.DIFF, System.nanoTime() - diffStarted);
+                touchStatus(status, data);
+                IngestResult result = IngestResult.unchangedSnapshot(incomingAll.size())
+                        .withSnapshotVersion(currentVersion(status));
+                metrics.recordResult(result);
+                return result;
+            }
+            
+            // 3) 현재 저장된 항목을 테이블당 한 번의 조회로 로드
+            ItemDiff assignmentDiff = ItemDiff.compute(
+                    itemBatchWriter.loadByStudent(NormalizedItem.Kind.ASSIGNMENT, student.getId()), incomingAssignments);
+            ItemDiff lectureDiff = ItemDiff.compute(
+                    itemBatchWriter.loadByStudent(NormalizedItem.Kind.LECTURE, student.getId()), incomingLectures);
+            metrics.record(IngestMetrics.Stage.DIFF, System.nanoTime() - diffStarted);
+            
+            // 4) 추가/변경/삭제 분만 배치로 반영 (변경 없는 항목과 완료 여부는 그대로 유지됨)
+            long writeStarted = System.nanoTime();
+            applyDiff(NormalizedItem.Kind.ASSIGNMENT, student.getId(), assignmentDiff);
+            applyDiff(NormalizedItem.Kind.LECTURE, student.getId(), lectureDiff);
+            metrics.record(IngestMetrics.Stage.WRITE, System.nanoTime() - writeStarted);
+            deadlineQueryService.markChanged(student.getId()); // 데이터 버전 증가, 커밋 후 조회 캐시 무효화
             
+            int added = assignmentDiff.getAdded().size() + lectureDiff.getAdded().size();
+            int updated = assignmentDiff.getChanged().size() + lectureDiff.getChanged().size();
+            int removed = assignmentDiff.getRemovedIds().size() + lectureDiff.getRemovedIds().size();
+            int unchanged = assignmentDiff.getUnchanged() + lectureDiff.getUnchanged();
+            
+            // 업데이트 상태 기록
+            long version = currentVersion(status) + 1;
+            status.setContentHash(contentHash);
+            status.setSnapshotVersion(version);
+            touchStatus(status, data);
+            
+            IngestResult result = new IngestResult(added, updated, removed, unchanged).withSnapshotVersion(version);
+            metrics.recordResult(result);
+            eventBroadcaster.publishIngest(student.getId(), result); // 커밋 후 전송
             log.setStatus("success");
-            log.setMessage("imported=" + imported);
+            log.setMessage(result.toString());
             
-            return imported;
+            return result;
             
         } catch (Exception e) {
+            metrics.recordFailure();
             log.setStatus("error");
             log.setMessage(e.getMessage());
             throw new RuntimeException("Failed to process crawl data", e);
         } finally {
-            syncLogRepository.save(log);
+            if (recordLog) {
+                syncLogRepository.save(log);
+            }
         }
     }
     
-    private static String digest(String s) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            byte[] b = md.digest(s.getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder();
-            for (byte x : b) sb.append(String.format("%02x", x));
-            return sb.toString();
-        } catch (Exception e) {
-            return Integer.toHexString(Objects.hashCode(s));
-        }
+    /**
+     * 델타 제출 반영
+     * - baseVersion 이후 추가/변경된 항목(added)과 사라진 항목 ID(removed)만 받아 반영합니다.
+     * - 조회와 쓰기 모두 델타에 포함된 ID만 대상으로 하므로 작업량이 변경 크기에 비례합니다.
+     * - 콘텐츠 해시도 전체 항목을 다시 읽지 않고 빠진/들어온 항목만으로 갱신합니다.
+     *
+     * @throws StaleSnapshotException baseVersion이 현재 스냅샷 버전과 다른 경우 (전체 제출 필요)
+     * @throws IngestLockTimeoutException 같은 학생의 다른 반영 작업이 제한 시간 안에 끝나지 않은 경우
+     */
+    public IngestResult processDelta(Long studentId, ClientCrawlDeltaDto delta) {
+        return ingestLock.withLock(studentId, () -> transactionTemplate.execute(tx -> applyDelta(studentId, delta)));
     }
     
-    private static Instant parseDue(String due) {
-        if (due == null || due.isBlank()) return null;
+    private IngestResult applyDelta(Long studentId, ClientCrawlDeltaDto delta) {
+        long started = System.nanoTime();
+        long baseVersion = delta.getBaseVersion() != null ? delta.getBaseVersion() : -1L;
+        Student student = findStudent(studentId);
+        StudentUpdateStatus status = student == null ? null
+                : updateStatusRepository.findByStudentIdForUpdate(student.getId()).orElse(null);
+        long current = status != null ? currentVersion(status) : 0L;
+        if (status == null || current != baseVersion) {
+            throw new StaleSnapshotException(baseVersion, current);
+        }
+        
+        IngestPayload.Builder builder = IngestPayload.builder(studentId, crawlItemNormalizer)
+                .clientVersion(delta.getClientVersion())
+                .clientPlatform(delta.getClientPlatform())
+                .crawledAt(delta.getCrawledAt());
+        if (delta.getAdded() != null) {
+            for (ClientCrawlDataDto.ItemDto item : delta.getAdded()) {
+                builder.addItem(item.getType(), item.getCourseName(), item.getTitle(), item.getDue());
+            }
+        }
+        IngestPayload data = builder.build();
+        metrics.recordParse(data, System.nanoTime() - started);
+        Set<UUID> removedIds = new HashSet<>();
+        if (delta.getRemoved() != null) {
+            for (String removed : delta.getRemoved()) {
+                UUID id = ItemIds.parse(removed);
+                if (id != null) removedIds.add(id); // 형식이 맞지 않는 ID(이전 형식 등)는 무시
+            }
+        }
+        
+        SyncLog log = new SyncLog();
+        log.setSource("client-delta:" + studentId + ":" + data.getClientPlatform());
         try {
-            String norm = due.trim();
+            Map<UUID, NormalizedItem> addedAssignments = new LinkedHashMap<>();
+            Map<UUID, NormalizedItem> addedLectures = new LinkedHashMap<>();
+            for (NormalizedItem item : data.getItems()) {
+                if (item.getKind() == NormalizedItem.Kind.ASSIGNMENT) {
+                    addedAssignments.put(item.getId(), item);
+                } else {
+                    addedLectures.put(item.getId(), item);
+                }
+            }
             
-            // 다양한 날짜 형식 처리
-            LocalDateTime ldt;
+            long diffStarted = System.nanoTime();
+            List<NormalizedItem> fingerprintOut = new ArrayList<>();
+            List<NormalizedItem> fingerprintIn = new ArrayList<>();
+            ItemDiff assignmentDiff = deltaDiff(NormalizedItem.Kind.ASSIGNMENT, student.getId(),
+                    addedAssignments, removedIds, fingerprintOut, fingerprintIn);
+            ItemDiff lectureDiff = deltaDiff(NormalizedItem.Kind.LECTURE, student.getId(),
+                    addedLectures, removedIds, fingerprintOut, fingerprintIn);
+            metrics.record(IngestMetrics.Stage.DIFF, System.nanoTime() - diffStarted);
             
-            if (norm.matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}")) {
-                // YYYY-MM-DD HH:MM:SS 형식
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-                ldt = LocalDateTime.parse(norm, formatter);
-            } else if (norm.matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}")) {
-                // YYYY-MM-DD HH:MM 형식 (초 없음)
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-                ldt = LocalDateTime.parse(norm, formatter);
-            } else {
-                // ISO 형식으로 시도 (T 구분자 사용)
-                if (norm.length() == 16) norm = norm + ":00";
-                ldt = LocalDateTime.parse(norm.replace(' ', 'T'));
-            }
+            long writeStarted = System.nanoTime();
+            applyDiff(NormalizedItem.Kind.ASSIGNMENT, student.getId(), assignmentDiff);
+            applyDiff(NormalizedItem.Kind.LECTURE, student.getId(), lectureDiff);
+            metrics.record(IngestMetrics.Stage.WRITE, System.nanoTime() - writeStarted);
+            deadlineQueryService.markChanged(student.getId()); // 데이터 버전 증가, 커밋 후 조회 캐시 무효화
+            
+            int added = assignmentDiff.getAdded().size() + lectureDiff.getAdded().size();
+            int updated = assignmentDiff.getChanged().size() + lectureDiff.getChanged().size();
+            int removed = assignmentDiff.getRemovedIds().size() + lectureDiff.getRemovedIds().size();
+            int unchanged = assignmentDiff.getUnchanged() + lectureDiff.getUnchanged();
+            
+            long version = current + 1;
+            status.setContentHash(ItemFingerprint.update(status.getContentHash(), fingerprintOut, fingerprintIn));
+            status.setSnapshotVersion(version);
+            touchStatus(status, data);
+            
+            IngestResult result = new IngestResult(added, updated, removed, unchanged).withSnapshotVersion(version);
+            metrics.recordResult(result);
+            eventBroadcaster.publishIngest(student.getId(), result); // 커밋 후 전송
+            log.setStatus("success");
+            log.setMessage(result.toString());
+            return result;
             
-            return ldt.atZone(ZoneId.of("Asia/Seoul")).toInstant();
         } catch (Exception e) {
-            System.err.println("Failed to parse date: " + due + " - " + e.getMessage());
-            return null;
+            metrics.recordFailure();
+            log.setStatus("error");
+            log.setMessage(e.getMessage());
+            throw new RuntimeException("Failed to process crawl delta", e);
+        } finally {
+            syncLogRepository.save(log);
+        }
+    }
+    
+    /**
+     * 델타에 언급된 ID만 로드해 차이를 계산
+     * - 같은 ID가 added와 removed에 모두 있으면 added가 우선합니다.
+     * - 콘텐츠 해시 갱신용으로 빠지는 저장값(out)과 들어오는 새 값(in)을 모읍니다.
+     */
+    private ItemDiff deltaDiff(NormalizedItem.Kind kind, Long studentId, Map<UUID, NormalizedItem> added,
+                               Collection<UUID> removedIds, List<NormalizedItem> out, List<NormalizedItem> in) {
+        Set<UUID> touched = new HashSet<>(added.keySet());
+        touched.addAll(removedIds);
+        Map<UUID, NormalizedItem> stored = itemBatchWriter.loadByIds(kind, studentId, touched);
+        
+        Map<UUID, NormalizedItem> target = new LinkedHashMap<>(stored);
+        target.keySet().removeAll(removedIds);
+        target.putAll(added);
+        
+        ItemDiff diff = ItemDiff.compute(stored, target);
+        for (UUID id : diff.getRemovedIds()) out.add(stored.get(id));
+        for (NormalizedItem item : diff.getChanged()) out.add(stored.get(item.getId()));
+        in.addAll(diff.getChanged());
+        in.addAll(diff.getAdded());
+        return diff;
+    }
+    
+    /**
+     * 학생 조회 (ID로 먼저, 없으면 클라이언트 임시 계정 이메일로 조회해 중복 방지)
+     */
+    private Student findStudent(Long studentId) {
+        Student student = studentRepository.findById(studentId).orElse(null);
+        if (student == null) {
+            student = studentRepository.findByEmail(clientEmail(studentId)).orElse(null);
+        }
+        return student;
+    }
+    
+    private static String clientEmail(Long studentId) {
+        return "client-" + String.valueOf(studentId) + "@local";
+    }
+    
+    private static long currentVersion(StudentUpdateStatus status) {
+        return status.getSnapshotVersion() != null ? status.getSnapshotVersion() : 0L;
+    }
+    
+    /**
+     * 업데이트 시각/클라이언트 정보 갱신 및 알림 카운트 리셋
+     */
+    private void touchStatus(StudentUpdateStatus status, IngestPayload data) {
+        long started = System.nanoTime();
+        status.setLastUpdatedAt(Instant.now());
+        status.setClientVersion(data.getClientVersion());
+        status.setClientPlatform(data.getClientPlatform());
+        status.setNotificationCount(0); // 업데이트 성공 시 알림 카운트 리셋
+        updateStatusRepository.save(status);
+        metrics.record(IngestMetrics.Stage.STATUS, System.nanoTime() - started);
+    }
+    
+    private void applyDiff(NormalizedItem.Kind kind, Long studentId, ItemDiff diff) {
+        itemBatchWriter.delete(kind, diff.getRemovedIds());
+        itemBatchWriter.update(kind, diff.getChanged());
+        itemBatchWriter.insert(kind, studentId, diff.getAdded());
+        for (NormalizedItem item : diff.getAdded()) {
+            if (debugLog.sample()) {
+                debugLog.log("Saved {}: {} -> {}", kind.name().toLowerCase(), item.getTitle(), item.getCourseName());
+            }
         }
     }
 }
-
@@ -0,0 +1,75 @@
+package com.inhash.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Interner;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 과목명 정규화 (접두사 제거, 대괄호 이후 제거, 50자 제한) + 결과 캐시
+ * - 학생당 과목은 10개 남짓이고 전체 과목명도 수백 개 수준이라, 원본 문자열 기준으로 결과를 캐시합니다.
+ * - 결과 문자열은 인터닝해 서로 다른 원본(교수명/분반 차이 등)이 같은 과목명이면 같은 인스턴스를 공유합니다.
+ * - 캐시 적중/미스는 cache.gets{cache=courseNames, result=hit|miss} 메트릭으로 노출됩니다.
+ */
+@Component
+public class CourseNameNormalizer {
+
+    /** 제거할 접두사 패턴들 */
+    private static final String[] PREFIXES = {
+        "비러닝학부",
+        "오프라인학부",
+        "원격활용학부",
+        "블렌디드러닝학부",
+        "온라인학부",
+        "비대면학부",
+        "대면학부"
+    };
+
+    /** 과목명 길이 제한 */
+    private static final int MAX_LENGTH = 50;
+
+    private final Cache<String, String> cache;
+    private final Interner<String> interner = Interner.newWeakInterner();
+
+    public CourseNameNormalizer(@Value("${inhash.ingest.course-name-cache.max-size:5000}") long maxSize,
+                                MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "courseNames");
+    }
+
+    /**
+     * 원본 과목명을 정규화된 과목명으로 변환 (null이면 빈 문자열)
+     * 예: "비러닝학부디지털논리회로[202502-EEC2106-001]박재현" -> "디지털논리회로"
+     */
+    public String normalize(String courseName) {
+        if (courseName == null) return "";
+        return cache.get(courseName, raw -> interner.intern(clean(raw)));
+    }
+
+    private static String clean(String courseName) {
+        String cleaned = courseName;
+        for (String prefix : PREFIXES) {
+            if (cleaned.startsWith(prefix)) {
+                cleaned = cleaned.substring(prefix.length()).trim();
+                break;
+            }
+        }
+
+        // 과목명에서 코드 부분 앞까지만 사용
+        int bracketIndex = cleaned.indexOf('[');
+        if (bracketIndex > 0) {
+            cleaned = cleaned.substring(0, bracketIndex).trim();
+        }
+
+        if (cleaned.length() > MAX_LENGTH) {
+            cleaned = cleaned.substring(0, MAX_LENGTH);
+        }
+        return cleaned;
+    }
+}
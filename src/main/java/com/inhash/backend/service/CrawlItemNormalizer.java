@@ -0,0 +1,86 @@
+package com.inhash.backend.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 클라이언트 크롤링 항목 정규화
+ * - 과목명 정리, 마감일 파싱, 기간 필터, 항목 ID 생성을 담당합니다.
+ * - DTO 경로(개발용 서버 크롤링)와 스트리밍 수신 경로가 같은 규칙을 사용합니다.
+ */
+@Component
+public class CrawlItemNormalizer {
+
+    private final CourseNameNormalizer courseNameNormalizer;
+    private final IngestDebugLog debugLog;
+    private final IngestMetrics metrics;
+
+    public CrawlItemNormalizer(CourseNameNormalizer courseNameNormalizer,
+                               IngestDebugLog debugLog,
+                               IngestMetrics metrics) {
+        this.courseNameNormalizer = courseNameNormalizer;
+        this.debugLog = debugLog;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 항목 하나를 정규화
+     * - 과목명/제목이 없거나, 종류를 알 수 없거나, 이미 마감되었거나, 1달 이후 마감인 항목은 null 반환
+     */
+    public NormalizedItem normalize(Long studentId, String type, String courseName, String title, String due,
+                                    Instant now, Instant oneMonthLater) {
+        if (courseName == null || title == null) {
+            return null;
+        }
+
+        NormalizedItem.Kind kind;
+        if ("assignment".equalsIgnoreCase(type)) {
+            kind = NormalizedItem.Kind.ASSIGNMENT;
+        } else if ("class".equalsIgnoreCase(type) || "lecture".equalsIgnoreCase(type)) {
+            kind = NormalizedItem.Kind.LECTURE;
+        } else {
+            return null;
+        }
+
+        // 과목명 정리 (접두사/코드 제거, 50자 제한) - 원본 과목명 기준 캐시
+        // 예: "비러닝학부디지털논리회로[202502-EEC2106-001]박재현" -> "디지털논리회로"
+        String cleanedCourseName = courseNameNormalizer.normalize(courseName);
+
+        Instant dueAt = parseDue(due);
+
+        // 과거 마감 항목 제외
+        if (dueAt != null && dueAt.isBefore(now)) {
+            return null;
+        }
+
+        // 1달 이후 마감 항목 제외
+        if (dueAt != null && dueAt.isAfter(oneMonthLater)) {
+            return null;
+        }
+
+        // 고유 ID 생성 - 제목, 학생ID, 과목명, 마감일로 생성
+        // 과목명도 포함하여 같은 제목이라도 다른 과목이면 다른 ID
+        UUID id = ItemIds.of(title, cleanedCourseName, studentId, dueAt);
+
+        // 디버깅: 과목 매칭 / ID 생성 확인 (표본만, 기본 꺼짐)
+        if (debugLog.sample()) {
+            debugLog.log("[{}] '{}' course '{}' -> '{}', due={} -> id={}",
+                    type, title, courseName, cleanedCourseName, dueAt != null ? dueAt : "NO_DUE", id);
+        }
+
+        return new NormalizedItem(kind, id, cleanedCourseName, title, dueAt);
+    }
+
+    private Instant parseDue(String due) {
+        Instant dueAt = DueDateParser.parse(due);
+        if (dueAt == null && due != null && !due.isBlank()) {
+            metrics.recordUnparsedDue();
+            if (debugLog.sample()) {
+                debugLog.log("Failed to parse date: {}", due);
+            }
+        }
+        return dueAt;
+    }
+}
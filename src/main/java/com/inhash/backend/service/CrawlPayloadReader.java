@@ -0,0 +1,274 @@
+package com.inhash.backend.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * /api/crawl/submit 본문 스트리밍 파서
+ * - ClientCrawlDataDto 전체를 메모리에 바인딩하지 않고 Jackson 스트리밍 API로 토큰 단위로 읽습니다.
+ * - items 배열의 항목은 읽는 즉시 정규화/필터링되어 IngestPayload에 쌓이므로 원본 항목 객체가 남지 않습니다.
+ * - 바이트 수와 항목 수 한도를 읽는 도중에 검사해 초과 시 바로 중단합니다.
+ * - Content-Encoding: gzip / deflate 본문은 스트림 그대로 압축을 풀며 읽습니다.
+ *   압축 해제 후 바이트 수에도 같은 한도를 적용하므로 압축 폭탄으로 메모리가 부풀지 않습니다.
+ */
+@Component
+public class CrawlPayloadReader {
+
+    private final JsonFactory jsonFactory;
+    private final CrawlItemNormalizer crawlItemNormalizer;
+    private final IngestMetrics metrics;
+    private final int maxItems;
+    private final long maxBytes;
+
+    public CrawlPayloadReader(ObjectMapper objectMapper,
+                              CrawlItemNormalizer crawlItemNormalizer,
+                              IngestMetrics metrics,
+                              @Value("${inhash.ingest.max-items:3000}") int maxItems,
+                              @Value("${inhash.ingest.max-bytes:2097152}") long maxBytes) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.crawlItemNormalizer = crawlItemNormalizer;
+        this.metrics = metrics;
+        this.maxItems = maxItems;
+        this.maxBytes = maxBytes;
+    }
+
+    public long getMaxBytes() { return maxBytes; }
+
+    /**
+     * 지원하는 Content-Encoding인지 확인 (없음/identity/gzip/deflate)
+     */
+    public boolean supportsEncoding(String contentEncoding) {
+        if (contentEncoding == null || contentEncoding.isBlank()) return true;
+        String enc = contentEncoding.trim().toLowerCase(Locale.ROOT);
+        return enc.equals("identity") || enc.equals("gzip") || enc.equals("x-gzip") || enc.equals("deflate");
+    }
+
+    /**
+     * 압축되지 않은 요청 본문을 읽어 정규화된 제출 데이터로 변환
+     */
+    public IngestPayload read(Long studentId, InputStream body) throws IOException {
+        return read(studentId, body, null);
+    }
+
+    /**
+     * 요청 본문을 읽어 정규화된 제출 데이터로 변환
+     *
+     * @param contentEncoding 요청의 Content-Encoding 헤더 값 (없으면 null)
+     * @throws PayloadTooLargeException 바이트 수(압축 전/후) 또는 항목 수 한도 초과
+     * @throws IOException JSON 형식 오류(JsonProcessingException), 압축 형식 오류(ZipException), 본문 읽기 실패
+     */
+    public IngestPayload read(Long studentId, InputStream body, String contentEncoding) throws IOException {
+        long started = System.nanoTime();
+        IngestPayload.Builder builder = IngestPayload.builder(studentId, crawlItemNormalizer);
+        try (JsonParser p = jsonFactory.createParser(decode(body, contentEncoding, maxBytes))) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(p, "JSON object expected");
+            }
+            readFields(p, builder);
+        }
+        IngestPayload payload = builder.build();
+        metrics.recordParse(payload, System.nanoTime() - started);
+        return payload;
+    }
+
+    /**
+     * NDJSON 배치 본문을 한 줄(학생 한 명)씩 읽어 전달 (/api/crawl/batch)
+     * - 각 줄은 /submit 본문과 같은 형식에 studentId가 첫 필드로 붙은 객체입니다.
+     *   항목 ID 계산에 학생 ID가 필요하므로 studentId가 먼저 와야 항목을 읽는 즉시 정규화할 수 있습니다.
+     * - studentId 누락, 항목 수 초과 같은 줄 단위 오류는 그 줄만 실패로 전달하고 다음 줄을 계속 읽습니다.
+     *   JSON 문법 오류는 다음 줄의 시작을 알 수 없으므로 IOException으로 중단합니다.
+     *
+     * @param maxBytes 본문 전체 바이트 한도 (압축 전/후)
+     * @return 읽은 줄 수
+     */
+    public int readBatch(InputStream body, String contentEncoding, long maxBytes, BatchLineHandler handler)
+            throws IOException {
+        int line = 0;
+        try (JsonParser p = jsonFactory.createParser(decode(body, contentEncoding, maxBytes))) {
+            JsonToken t;
+            while ((t = p.nextToken()) != null) {
+                line++;
+                if (t != JsonToken.START_OBJECT) {
+                    p.skipChildren();
+                    handler.onLine(line, null, null, "JSON object expected");
+                    continue;
+                }
+                long started = System.nanoTime();
+                if (p.nextToken() != JsonToken.FIELD_NAME || !"studentId".equals(p.currentName())
+                        || !p.nextToken().isNumeric()) {
+                    skipToRoot(p);
+                    handler.onLine(line, null, null, "studentId must be the first field");
+                    continue;
+                }
+                Long studentId = p.getLongValue();
+                IngestPayload.Builder builder = IngestPayload.builder(studentId, crawlItemNormalizer);
+                try {
+                    readFields(p, builder);
+                } catch (PayloadTooLargeException e) {
+                    if (!p.getParsingContext().inRoot()) skipToRoot(p);
+                    handler.onLine(line, studentId, null, e.getMessage());
+                    continue;
+                }
+                IngestPayload payload = builder.build();
+                metrics.recordParse(payload, System.nanoTime() - started);
+                handler.onLine(line, studentId, payload, null);
+            }
+        }
+        return line;
+    }
+
+    /**
+     * 배치 본문 한 줄의 처리 결과 (payload와 error 중 하나만 null이 아님)
+     */
+    @FunctionalInterface
+    public interface BatchLineHandler {
+        void onLine(int line, Long studentId, IngestPayload payload, String error) throws IOException;
+    }
+
+    /**
+     * 현재 객체의 남은 필드를 읽어 빌더에 반영 (객체의 END_OBJECT까지 소비)
+     */
+    private void readFields(JsonParser p, IngestPayload.Builder builder) throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "clientVersion" -> builder.clientVersion(text(p));
+                case "clientPlatform" -> builder.clientPlatform(text(p));
+                case "crawledAt" -> builder.crawledAt(text(p));
+                case "courses" -> builder.courseCount(countElements(p));
+                case "items" -> readItems(p, builder);
+                default -> p.skipChildren();
+            }
+        }
+    }
+
+    /** 최상위 객체가 끝날 때까지 토큰을 건너뜀 */
+    private static void skipToRoot(JsonParser p) throws IOException {
+        while (!p.getParsingContext().inRoot()) {
+            if (p.nextToken() == null) return;
+        }
+    }
+
+    /**
+     * 전송 바이트와 압축 해제 바이트 모두에 한도를 건 입력 스트림 생성
+     */
+    private InputStream decode(InputStream body, String contentEncoding, long maxBytes) throws IOException {
+        InputStream wire = new LimitedInputStream(body, maxBytes);
+        if (contentEncoding == null || contentEncoding.isBlank()) return wire;
+        String enc = contentEncoding.trim().toLowerCase(Locale.ROOT);
+        InputStream decoded = switch (enc) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(wire, 8192);
+            case "deflate" -> new InflaterInputStream(wire, new Inflater(), 8192);
+            case "identity" -> wire;
+            default -> throw new IOException("Unsupported Content-Encoding: " + contentEncoding);
+        };
+        return decoded == wire ? wire : new LimitedInputStream(decoded, maxBytes);
+    }
+
+    private void readItems(JsonParser p, IngestPayload.Builder builder) throws IOException {
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            p.skipChildren();
+            return;
+        }
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            if (p.currentToken() != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                continue;
+            }
+            String type = null, courseName = null, title = null, due = null;
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "type" -> type = text(p);
+                    case "courseName" -> courseName = text(p);
+                    case "title" -> title = text(p);
+                    case "due" -> due = text(p);
+                    default -> p.skipChildren(); // url, remainingSeconds 등은 저장하지 않음
+                }
+            }
+            if (builder.getReceivedItems() >= maxItems) {
+                throw new PayloadTooLargeException("Too many items (max " + maxItems + ")");
+            }
+            builder.addItem(type, courseName, title, due);
+        }
+    }
+
+    private static int countElements(JsonParser p) throws IOException {
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            p.skipChildren();
+            return 0;
+        }
+        int count = 0;
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            p.skipChildren();
+            count++;
+        }
+        return count;
+    }
+
+    /** 문자열/숫자 값은 문자열로, null·객체·배열은 null로 */
+    private static String text(JsonParser p) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT || t == JsonToken.START_ARRAY) {
+            p.skipChildren();
+            return null;
+        }
+        return t == JsonToken.VALUE_NULL ? null : p.getValueAsString();
+    }
+
+    /**
+     * 읽은 바이트 수가 한도를 넘으면 PayloadTooLargeException을 던지는 스트림
+     */
+    static final class LimitedInputStream extends FilterInputStream {
+        private final long limit;
+        private long count;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) advance(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buf, int off, int len) throws IOException {
+            int n = super.read(buf, off, len);
+            if (n > 0) advance(n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            if (skipped > 0) advance(skipped);
+            return skipped;
+        }
+
+        private void advance(long n) {
+            count += n;
+            if (count > limit) {
+                throw new PayloadTooLargeException("Request body exceeds " + limit + " bytes");
+            }
+        }
+    }
+}
@@ -3,11 +3,8 @@ package com.inhash.backend.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.inhash.backend.domain.*;
-import com.inhash.backend.repository.AssignmentRepository;
 import com.inhash.backend.repository.CourseRepository;
-import com.inhash.backend.repository.LectureRepository;
 import com.inhash.backend.repository.SyncLogRepository;
-import com.inhash.backend.repository.StudentRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -20,19 +17,16 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.*;
 
 @Service
 public class CrawlService {
 
-    private final AssignmentRepository assignmentRepository;
-    private final LectureRepository lectureRepository;
     private final CourseRepository courseRepository;
     private final SyncLogRepository syncLogRepository;
-    private final StudentRepository studentRepository;
     private final LmsAccountService lmsAccountService;
+    private final ItemBatchWriter itemBatchWriter;
+    private final CourseNameNormalizer courseNameNormalizer;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${inhash.crawl.python.workingDir:}")
@@ -46,13 +40,12 @@ public class CrawlService {
     @Value("${inhash.crawl.internal.password:dudcks!@34}")
     private String internalPassword;
 
-    public CrawlService(AssignmentRepository assignmentRepository, LectureRepository lectureRepository, CourseRepository courseRepository, SyncLogRepository syncLogRepository, StudentRepository studentRepository, LmsAccountService lmsAccountService) {
-        this.assignmentRepository = assignmentRepository;
-        this.lectureRepository = lectureRepository;
+    public CrawlService(CourseRepository courseRepository, SyncLogRepository syncLogRepository, LmsAccountService lmsAccountService, ItemBatchWriter itemBatchWriter, CourseNameNormalizer courseNameNormalizer) {
         this.courseRepository = courseRepository;
         this.syncLogRepository = syncLogRepository;
-        this.studentRepository = studentRepository;
         this.lmsAccountService = lmsAccountService;
+        this.itemBatchWriter = itemBatchWriter;
+        this.courseNameNormalizer = courseNameNormalizer;
     }
 
     public int runCrawlAndImport() {
@@ -125,6 +118,8 @@ public class CrawlService {
             imported = 0;
             int seen = 0;
             final Instant nowKstInstant = Instant.now();
+            List<NormalizedItem> assignments = new ArrayList<>();
+            List<NormalizedItem> lectures = new ArrayList<>();
             for (JsonNode it : items) {
                 String type = optText(it, "type");
                 if (type != null) {
@@ -151,38 +146,27 @@ public class CrawlService {
                     return courseRepository.save(c);
                 });
 
-                Instant dueAt = parseDue(due);
+                Instant dueAt = DueDateParser.parse(due);
                 // KST 기준 과거 마감 항목은 제외
                 if (dueAt != null && dueAt.isBefore(nowKstInstant)) {
                     continue;
                 }
-                String id = digest(title + "|" + (url == null ? "" : url) + "|" + courseId + "|" + String.valueOf(studentId));
+                // 클라이언트 수신 경로와 같은 과목명 정규화 (접두사/코드 제거, 50자)
+                String shortCourseName = courseNameNormalizer.normalize(course != null ? course.getName() : null);
+                // 클라이언트 수신 경로와 같은 ID 체계 (저장된 행만으로 다시 계산 가능)
+                UUID id = ItemIds.of(title, shortCourseName, studentId, dueAt);
 
                 if ("assignment".equalsIgnoreCase(type)) {
-                    Assignment a = new Assignment();
-                    a.setId(id);
-                    a.setCourseName(course != null && course.getName() != null ? 
-                        (course.getName().length() > 20 ? course.getName().substring(0, 20) : course.getName()) : "");
-                    a.setTitle(title);
-                    a.setUrl(url);
-                    a.setDueAt(dueAt);
-                    if (studentId != null) a.setStudent(studentRepository.getReferenceById(studentId));
-                    assignmentRepository.save(a);
-                    imported++;
+                    assignments.add(new NormalizedItem(NormalizedItem.Kind.ASSIGNMENT, id, shortCourseName, title, url, dueAt));
                 } else if ("class".equalsIgnoreCase(type)) {
-                    Lecture l = new Lecture();
-                    l.setId(id);
-                    l.setCourseName(course != null && course.getName() != null ? 
-                        (course.getName().length() > 20 ? course.getName().substring(0, 20) : course.getName()) : "");
-                    l.setTitle(title);
-                    l.setUrl(url);
-                    l.setDueAt(dueAt);
-                    if (studentId != null) l.setStudent(studentRepository.getReferenceById(studentId));
-                    lectureRepository.save(l);
-                    imported++;
+                    lectures.add(new NormalizedItem(NormalizedItem.Kind.LECTURE, id, shortCourseName, title, url, dueAt));
                 }
             }
 
+            // 항목별 save 대신 테이블별 배치 upsert
+            imported += itemBatchWriter.upsert(NormalizedItem.Kind.ASSIGNMENT, studentId, assignments);
+            imported += itemBatchWriter.upsert(NormalizedItem.Kind.LECTURE, studentId, lectures);
+
             log.setStatus("success");
             log.setMessage("items=" + items.size() + ", imported=" + imported);
             System.out.println("[CrawlService] imported=" + imported);
@@ -225,27 +209,10 @@ public class CrawlService {
     private static String digest(String s) {
         try {
             MessageDigest md = MessageDigest.getInstance("MD5");
-            byte[] b = md.digest(s.getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder();
-            for (byte x : b) sb.append(String.format("%02x", x));
-            return sb.toString();
+            return HexFormat.of().formatHex(md.digest(s.getBytes(StandardCharsets.UTF_8)));
         } catch (Exception e) {
             return Integer.toHexString(Objects.hashCode(s));
         }
     }
-
-    private static Instant parseDue(String due) {
-        if (due == null || due.isBlank()) return null;
-        try {
-            // base_scraper 출력 형식: "YYYY-MM-DD HH:MM[:SS]"
-            String norm = due.trim();
-            if (norm.length() == 16) norm = norm + ":00";
-            LocalDateTime ldt = LocalDateTime.parse(norm.replace(' ', 'T'));
-            return ldt.atZone(ZoneId.of("Asia/Seoul")).toInstant();
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
 
-
@@ -0,0 +1,260 @@
+package com.inhash.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 학생별 마감 데이터 변경 이벤트 SSE 전송 (/api/deadlines/{studentId}/events)
+ * - 연결은 서블릿 비동기 요청(SseEmitter)으로 유지하므로 대기 중인 연결은 스레드를 점유하지 않습니다.
+ *   레지스트리는 학생 ID별 구독자 집합이며, 이벤트가 없는 학생에게는 아무 작업도 하지 않습니다.
+ * - 발행은 구독자별 대기열에 넣기만 하고 실제 쓰기는 sseExecutor에서 구독자마다 한 번에 하나씩 합니다.
+ *   느린 클라이언트가 발행 스레드(반영 워커, 요청 스레드)를 막지 않습니다.
+ * - 대기열이 queue-size를 넘으면 이후 이벤트를 버리고, 다음 전송 때 resync 이벤트 하나로 대신합니다.
+ *   클라이언트는 resync를 받으면 목록을 다시 조회합니다.
+ * - heartbeat-seconds마다 주석 줄을 보내 프록시 유휴 타임아웃을 막고 끊어진 연결을 정리합니다.
+ * - 트랜잭션 안에서 발행하면 커밋 후에 보내, 클라이언트가 이벤트를 받고 다시 조회했을 때 변경이 보이도록 합니다.
+ * - 이벤트는 이 인스턴스에 연결된 구독자에게만 전달됩니다 (다중 인스턴스면 연결이 반영 요청과 같은 인스턴스에 있어야 함).
+ */
+@Service
+public class DeadlineEventBroadcaster {
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("ping").build();
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final Executor sseExecutor;
+    private final Counter dropped;
+    private final long timeoutMillis;
+    private final int maxConnections;
+    private final int maxPerStudent;
+    private final int queueSize;
+
+    public DeadlineEventBroadcaster(@Qualifier("sseExecutor") Executor sseExecutor,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${inhash.sse.timeout-seconds:1800}") long timeoutSeconds,
+                                    @Value("${inhash.sse.max-connections:50000}") int maxConnections,
+                                    @Value("${inhash.sse.max-per-student:5}") int maxPerStudent,
+                                    @Value("${inhash.sse.queue-size:32}") int queueSize) {
+        this.sseExecutor = sseExecutor;
+        this.timeoutMillis = timeoutSeconds * 1000L;
+        this.maxConnections = maxConnections;
+        this.maxPerStudent = maxPerStudent;
+        this.queueSize = Math.max(1, queueSize);
+        this.dropped = Counter.builder("inhash.sse.events.dropped")
+                .description("SSE events dropped because a subscriber queue was full")
+                .register(meterRegistry);
+        Gauge.builder("inhash.sse.connections", connections, AtomicInteger::get)
+                .description("Open deadline event streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독 등록 (연결 수 제한을 넘으면 null)
+     *
+     * @param dataVersion 연결 시점의 데이터 버전 (첫 이벤트로 보내 클라이언트가 가진 ETag와 비교하게 함)
+     */
+    public SseEmitter subscribe(Long studentId, long dataVersion) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(studentId, emitter);
+        boolean[] added = {false};
+        subscribers.compute(studentId, (id, set) -> {
+            if (set == null) set = ConcurrentHashMap.newKeySet();
+            if (set.size() < maxPerStudent) {
+                set.add(subscriber);
+                added[0] = true;
+            }
+            return set.isEmpty() ? null : set;
+        });
+        if (!added[0]) {
+            connections.decrementAndGet();
+            return null;
+        }
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscriber.offer(event("version", Map.of("version", dataVersion)));
+        return emitter;
+    }
+
+    /**
+     * 제출 반영 완료 이벤트
+     */
+    public void publishIngest(Long studentId, IngestResult result) {
+        publish(studentId, "ingest", Map.of(
+                "added", result.getAdded(),
+                "updated", result.getUpdated(),
+                "removed", result.getRemoved(),
+                "snapshotVersion", result.getSnapshotVersion()));
+    }
+
+    /**
+     * 완료 토글 이벤트
+     */
+    public void publishToggle(Long studentId, NormalizedItem.Kind kind, String itemId, boolean completed) {
+        publish(studentId, "toggle", Map.of(
+                "type", kind == NormalizedItem.Kind.ASSIGNMENT ? "assignment" : "lecture",
+                "id", itemId,
+                "completed", completed));
+    }
+
+    /**
+     * 학생 데이터 삭제 이벤트
+     */
+    public void publishReset(Long studentId) {
+        publish(studentId, "reset", Map.of());
+    }
+
+    private void publish(Long studentId, String name, Map<String, Object> data) {
+        if (studentId == null || !subscribers.containsKey(studentId)) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(studentId, name, data);
+                }
+            });
+        } else {
+            deliver(studentId, name, data);
+        }
+    }
+
+    private void deliver(Long studentId, String name, Map<String, Object> data) {
+        Set<Subscriber> set = subscribers.get(studentId);
+        if (set == null) return;
+        Set<ResponseBodyEmitter.DataWithMediaType> event = event(name, data);
+        for (Subscriber subscriber : set) {
+            subscriber.offer(event);
+        }
+    }
+
+    /**
+     * 하트비트 (대기열에 보낼 것이 없는 연결에만 주석 줄 전송)
+     */
+    @Scheduled(fixedDelayString = "#{${inhash.sse.heartbeat-seconds:25} * 1000}")
+    public void heartbeat() {
+        for (Set<Subscriber> set : subscribers.values()) {
+            for (Subscriber subscriber : set) {
+                subscriber.heartbeat();
+            }
+        }
+    }
+
+    /**
+     * 이벤트를 한 번만 직렬화 단위로 만들어 모든 구독자가 공유 (SseEventBuilder.build는 다시 부르면 안 됨)
+     */
+    private Set<ResponseBodyEmitter.DataWithMediaType> event(String name, Object data) {
+        return SseEmitter.event()
+                .id(Long.toString(eventIds.incrementAndGet()))
+                .name(name)
+                .data(data, MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) return;
+        connections.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.studentId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 연결 하나 (대기열 + 전송 중 여부, 전송은 한 번에 한 스레드만)
+     */
+    private final class Subscriber {
+        private final Long studentId;
+        private final SseEmitter emitter;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(Long studentId, SseEmitter emitter) {
+            this.studentId = studentId;
+            this.emitter = emitter;
+        }
+
+        void offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (closed.get()) return;
+            if (queued.incrementAndGet() > queueSize) {
+                queued.decrementAndGet();
+                overflowed.set(true);
+                dropped.increment();
+            } else {
+                queue.add(event);
+            }
+            schedule();
+        }
+
+        void heartbeat() {
+            if (closed.get() || queued.get() > 0 || draining.get()) return;
+            offer(HEARTBEAT);
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sseExecutor.execute(this::drain);
+                } catch (RuntimeException e) {
+                    draining.set(false);
+                    emitter.completeWithError(e);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                if (overflowed.getAndSet(false)) {
+                    // 밀린 이벤트 대신 다시 조회하라는 이벤트 하나만 보냄
+                    int skipped = 0;
+                    while (queue.poll() != null) skipped++;
+                    queued.addAndGet(-skipped);
+                    dropped.increment(skipped);
+                    emitter.send(event("resync", Map.of()));
+                }
+                Set<ResponseBodyEmitter.DataWithMediaType> event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    emitter.send(event);
+                }
+            } catch (Exception e) {
+                // 끊어진 연결 (onError/onCompletion에서 레지스트리 정리)
+                remove(this);
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+            // 전송 중에 들어온 이벤트가 있으면 다시 예약
+            if (!closed.get() && (queued.get() > 0 || overflowed.get())) {
+                schedule();
+            }
+        }
+    }
+}
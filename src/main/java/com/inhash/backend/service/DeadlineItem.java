@@ -0,0 +1,43 @@
+package com.inhash.backend.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 마감 조회 응답용 항목 스냅샷 (과제 또는 수업)
+ * - 엔티티와 달리 불변이고 학생 참조를 들고 있지 않아 조회 캐시에 그대로 보관할 수 있습니다.
+ */
+public final class DeadlineItem {
+
+    private final NormalizedItem.Kind kind;
+    private final UUID id;
+    private final String title;
+    private final String courseName;
+    private final String url;
+    private final boolean completed;
+    private final Instant dueAt;
+
+    public DeadlineItem(NormalizedItem.Kind kind, UUID id, String title, String courseName,
+                        String url, boolean completed, Instant dueAt) {
+        this.kind = kind;
+        this.id = id;
+        this.title = title;
+        this.courseName = courseName != null ? courseName : "";
+        this.url = url;
+        this.completed = completed;
+        this.dueAt = dueAt;
+    }
+
+    public NormalizedItem.Kind getKind() { return kind; }
+    public UUID getId() { return id; }
+    public String getTitle() { return title; }
+    public String getCourseName() { return courseName; }
+    public String getUrl() { return url; }
+    public boolean isCompleted() { return completed; }
+    public Instant getDueAt() { return dueAt; }
+
+    /** now 시점에 아직 마감되지 않았는지 (마감일 없는 항목 포함) */
+    public boolean isOpenAt(Instant now) {
+        return dueAt == null || dueAt.isAfter(now);
+    }
+}
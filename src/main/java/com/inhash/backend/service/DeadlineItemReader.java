@@ -0,0 +1,260 @@
+package com.inhash.backend.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.UUID;
+
+/**
+ * assignments / lectures 테이블 통합 조회 (JDBC, UNION ALL 한 문장)
+ * - 과제와 수업을 한 번의 왕복으로 읽어 마감 시각 순(마감일 없는 항목은 뒤로)으로 돌려줍니다.
+ *   같은 마감 시각이면 ID, 종류 순이라 같은 데이터면 항상 같은 순서입니다.
+ * - 두 갈래 모두 같은 조건을 붙이므로 (student_id, due_at) 인덱스 범위 조회를 그대로 사용합니다.
+ * - 응답에 필요한 컬럼만 읽고 학생 행은 조인하지 않습니다.
+ */
+@Component
+public class DeadlineItemReader {
+
+    private static final String COLUMNS = "id, title, course_name, url, completed, due_at, (due_at IS NULL) AS no_due";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DeadlineItemReader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 학생의 과제/수업을 조건에 맞게 조회 (마감 시각 순)
+     */
+    public List<DeadlineItem> find(Long studentId, Filter filter) {
+        return find(studentId, filter, 0);
+    }
+
+    /**
+     * 학생의 과제/수업을 조건에 맞게 조회 (마감 시각 순, 최대 limit개)
+     * - limit이 있으면 갈래마다 먼저 limit개로 잘라 합치므로 범위가 넓어도 읽는 행 수가 limit의 두 배를 넘지 않습니다.
+     *
+     * @param limit 0 이하면 제한 없음
+     */
+    public List<DeadlineItem> find(Long studentId, Filter filter, int limit) {
+        List<Object> args = new ArrayList<>();
+        String sql;
+        if (limit > 0) {
+            String branchOrder = " ORDER BY (due_at IS NULL), due_at, id LIMIT " + limit;
+            sql = "(" + select("A", studentId, filter, args) + branchOrder + ")"
+                    + " UNION ALL (" + select("L", studentId, filter, args) + branchOrder + ")"
+                    + " ORDER BY no_due, due_at, id, kind LIMIT " + limit;
+        } else {
+            sql = select("A", studentId, filter, args)
+                    + " UNION ALL " + select("L", studentId, filter, args)
+                    + " ORDER BY no_due, due_at, id, kind";
+        }
+        Calendar utc = utcCalendar();
+        return jdbcTemplate.query(sql, bind(args, utc), (rs, rowNum) -> {
+            Timestamp due = rs.getTimestamp("due_at", utc);
+            return new DeadlineItem(kind(rs.getString("kind")), ItemIds.fromBytes(rs.getBytes("id")),
+                    rs.getString("title"), rs.getString("course_name"), rs.getString("url"),
+                    rs.getBoolean("completed"), due != null ? due.toInstant() : null);
+        });
+    }
+
+    /**
+     * 학생의 과제/수업 수를 종류별로 집계 (항목은 읽지 않음)
+     */
+    public Map<NormalizedItem.Kind, Long> count(Long studentId, Filter filter) {
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT 'A' AS kind, COUNT(*) AS cnt FROM assignments" + filter.where("A", studentId, args)
+                + " UNION ALL SELECT 'L' AS kind, COUNT(*) AS cnt FROM lectures" + filter.where("L", studentId, args);
+        Map<NormalizedItem.Kind, Long> counts = new EnumMap<>(NormalizedItem.Kind.class);
+        jdbcTemplate.query(sql, bind(args, utcCalendar()),
+                rs -> { counts.put(kind(rs.getString("kind")), rs.getLong("cnt")); });
+        return counts;
+    }
+
+    /**
+     * KST 날짜별 과제/수업/미완료 수 (마감일 없는 항목 제외, 날짜 순)
+     * - due_at은 UTC로 저장되고 KST는 일광 절약 시간이 없으므로 9시간을 더해 날짜를 구합니다.
+     */
+    public List<DayCount> countByKstDay(Long studentId, Filter filter) {
+        List<Object> args = new ArrayList<>();
+        String columns = ", DATE(due_at + INTERVAL 9 HOUR) AS day, completed";
+        String sql = "SELECT day, SUM(kind = 'A') AS assignments, SUM(kind = 'L') AS lectures,"
+                + " SUM(completed IS NULL OR completed = FALSE) AS incomplete FROM ("
+                + "SELECT 'A' AS kind" + columns + " FROM assignments" + filter.where("A", studentId, args)
+                + " AND due_at IS NOT NULL"
+                + " UNION ALL SELECT 'L' AS kind" + columns + " FROM lectures" + filter.where("L", studentId, args)
+                + " AND due_at IS NOT NULL"
+                + ") t GROUP BY day ORDER BY day";
+        return jdbcTemplate.query(sql, bind(args, utcCalendar()), (rs, rowNum) -> new DayCount(
+                rs.getDate("day").toLocalDate(), rs.getLong("assignments"), rs.getLong("lectures"),
+                rs.getLong("incomplete")));
+    }
+
+    private static String select(String kindCode, Long studentId, Filter filter, List<Object> args) {
+        return "SELECT '" + kindCode + "' AS kind, " + COLUMNS + " FROM " + table(kindCode)
+                + filter.where(kindCode, studentId, args);
+    }
+
+    private static String table(String kindCode) {
+        return "A".equals(kindCode) ? "assignments" : "lectures";
+    }
+
+    private static NormalizedItem.Kind kind(String code) {
+        return "A".equals(code) ? NormalizedItem.Kind.ASSIGNMENT : NormalizedItem.Kind.LECTURE;
+    }
+
+    /** 종류 코드 (UNION 결과의 kind 컬럼 값) */
+    static String kindCode(NormalizedItem.Kind kind) {
+        return kind == NormalizedItem.Kind.ASSIGNMENT ? "A" : "L";
+    }
+
+    /**
+     * 인자 바인딩 (Instant는 ItemBatchWriter와 같이 UTC TIMESTAMP, UUID는 BINARY(16))
+     */
+    private static PreparedStatementSetter bind(List<Object> args, Calendar utc) {
+        return ps -> {
+            int index = 1;
+            for (Object arg : args) {
+                if (arg instanceof Instant instant) ps.setTimestamp(index++, Timestamp.from(instant), utc);
+                else if (arg instanceof UUID id) ps.setBytes(index++, ItemIds.toBytes(id));
+                else ps.setObject(index++, arg);
+            }
+        };
+    }
+
+    private static Calendar utcCalendar() {
+        return Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    }
+
+    /**
+     * KST 날짜별 항목 수
+     */
+    public static final class DayCount {
+        private final LocalDate day;
+        private final long assignments;
+        private final long lectures;
+        private final long incomplete;
+
+        DayCount(LocalDate day, long assignments, long lectures, long incomplete) {
+            this.day = day;
+            this.assignments = assignments;
+            this.lectures = lectures;
+            this.incomplete = incomplete;
+        }
+
+        public LocalDate getDay() { return day; }
+        public long getAssignments() { return assignments; }
+        public long getLectures() { return lectures; }
+        public long getIncomplete() { return incomplete; }
+    }
+
+    /**
+     * 조회 조건 (불변)
+     */
+    public static final class Filter {
+        private static final Filter ALL = new Filter(null, null, false, null, null, null, null, null);
+
+        private final Instant openAt;
+        private final Instant dueFrom;
+        private final boolean fromInclusive;
+        private final Instant dueBefore;
+        private final Boolean completed;
+        private final Instant afterDueAt;
+        private final UUID afterId;
+        private final NormalizedItem.Kind afterKind;
+
+        private Filter(Instant openAt, Instant dueFrom, boolean fromInclusive, Instant dueBefore,
+                       Boolean completed, Instant afterDueAt, UUID afterId, NormalizedItem.Kind afterKind) {
+            this.openAt = openAt;
+            this.dueFrom = dueFrom;
+            this.fromInclusive = fromInclusive;
+            this.dueBefore = dueBefore;
+            this.completed = completed;
+            this.afterDueAt = afterDueAt;
+            this.afterId = afterId;
+            this.afterKind = afterKind;
+        }
+
+        /** 조건 없음 */
+        public static Filter all() {
+            return ALL;
+        }
+
+        /** now 시점에 아직 마감되지 않은 항목 (마감일 없는 항목 포함) */
+        public static Filter openAt(Instant now) {
+            return new Filter(now, null, false, null, null, null, null, null);
+        }
+
+        /** 마감이 (after, before) 구간에 있는 항목 (양 끝 제외, 마감일 없는 항목 제외) */
+        public static Filter dueBetween(Instant after, Instant before) {
+            return new Filter(null, after, false, before, null, null, null, null);
+        }
+
+        /** 마감이 from 이후(포함)인 항목 (마감일 없는 항목 제외) */
+        public static Filter dueFrom(Instant from) {
+            return new Filter(null, from, true, null, null, null, null, null);
+        }
+
+        /** 마감이 [from, to) 구간에 있는 항목 (마감일 없는 항목 제외) */
+        public static Filter dueWithin(Instant from, Instant to) {
+            return new Filter(null, from, true, to, null, null, null, null);
+        }
+
+        /** 완료 여부 조건 추가 (null이면 제한 없음, false는 완료 여부가 비어 있는 항목 포함) */
+        public Filter completed(Boolean completed) {
+            return new Filter(openAt, dueFrom, fromInclusive, dueBefore, completed, afterDueAt, afterId, afterKind);
+        }
+
+        /**
+         * 정렬 순서상 (dueAt, id, kind) 다음 항목부터 (키셋 페이지 커서, 마감일 있는 항목만 지원)
+         */
+        public Filter after(Instant dueAt, UUID id, NormalizedItem.Kind kind) {
+            if (dueAt == null || id == null || kind == null) {
+                throw new IllegalArgumentException("Cursor requires due time, id and kind");
+            }
+            return new Filter(openAt, dueFrom, fromInclusive, dueBefore, completed, dueAt, id, kind);
+        }
+
+        private String where(String kindCode, Long studentId, List<Object> args) {
+            StringBuilder sb = new StringBuilder(" WHERE student_id = ?");
+            args.add(studentId);
+            if (openAt != null) {
+                sb.append(" AND (due_at IS NULL OR due_at > ?)");
+                args.add(openAt);
+            }
+            if (dueFrom != null) {
+                sb.append(fromInclusive ? " AND due_at >= ?" : " AND due_at > ?");
+                args.add(dueFrom);
+            }
+            if (dueBefore != null) {
+                sb.append(" AND due_at < ?");
+                args.add(dueBefore);
+            }
+            if (completed != null) {
+                sb.append(completed ? " AND completed = TRUE" : " AND (completed IS NULL OR completed = FALSE)");
+            }
+            if (afterDueAt != null) {
+                // (due_at, id, kind) > (커서) - 앞의 due_at >= ?는 인덱스 범위 조회용
+                sb.append(" AND due_at >= ? AND (due_at > ? OR (due_at = ? AND (id > ? OR (id = ? AND '")
+                  .append(kindCode).append("' > ?))))");
+                args.add(afterDueAt);
+                args.add(afterDueAt);
+                args.add(afterDueAt);
+                args.add(afterId);
+                args.add(afterId);
+                args.add(kindCode(afterKind));
+            }
+            return sb.toString();
+        }
+    }
+}
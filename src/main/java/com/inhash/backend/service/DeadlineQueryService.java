@@ -0,0 +1,186 @@
+package com.inhash.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inhash.backend.repository.StudentRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * 학생별 미마감 과제/수업 조회 + 프로세스 내 캐시 (/api/deadlines/{studentId})
+ * - 앱을 열 때마다 같은 조회가 반복되지만 데이터는 제출 반영, 완료 토글, 데이터 삭제 때만 바뀌므로
+ *   그 경로에서 markChanged를 호출해 학생의 데이터 버전(students.data_version)을 올리고 캐시 항목을 지웁니다.
+ *   나머지는 크기/TTL로 내보냅니다.
+ * - 캐시 항목은 적재 전에 읽은 데이터 버전을 함께 보관하고, 요청의 데이터 버전보다 오래됐으면 다시 읽습니다.
+ *   그래서 커밋과 무효화 사이에 적재된 이전 데이터가 새 버전의 ETag로 응답되지 않습니다.
+ * - 적재 기준 시각의 미마감 항목을 보관하고 읽을 때 요청의 기준 시각으로 다시 거릅니다.
+ *   쓰기가 없는 동안 미마감 항목은 줄어들기만 하므로 다시 걸러도 DB 조회 결과와 같습니다.
+ * - 과제와 수업은 DeadlineItemReader의 UNION ALL 한 문장으로 함께 읽습니다.
+ * - 적중률은 cache.gets{cache=deadlines, result=hit|miss}와 inhash.deadlines.cache.hit.ratio 메트릭으로 노출됩니다.
+ * - /all·/today·/range 응답의 ETag 재료인 "다음 변경 시각"도 (학생, 조회 조건)별로 데이터 버전과 함께 보관해,
+ *   If-None-Match 확인은 버전 조회 한 번으로 끝나고 항목 조회는 본문을 만들 때만 합니다 (cache=deadline-etags).
+ */
+@Service
+public class DeadlineQueryService {
+
+    private final StudentRepository studentRepository;
+    private final DeadlineItemReader itemReader;
+    private final Cache<Long, OpenItems> cache;
+    private final Cache<String, ViewStamp> stamps;
+
+    public DeadlineQueryService(StudentRepository studentRepository,
+                                DeadlineItemReader itemReader,
+                                MeterRegistry meterRegistry,
+                                @Value("${inhash.deadlines.cache.max-size:10000}") long maxSize,
+                                @Value("${inhash.deadlines.cache.ttl-seconds:600}") long ttlSeconds,
+                                @Value("${inhash.deadlines.etag-cache.max-size:50000}") long stampMaxSize) {
+        this.studentRepository = studentRepository;
+        this.itemReader = itemReader;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "deadlines");
+        this.stamps = Caffeine.newBuilder()
+                .maximumSize(stampMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, stamps, "deadline-etags");
+        Gauge.builder("inhash.deadlines.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Deadline view cache hit ratio")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 학생의 항목 데이터 버전 (학생이 없으면 empty)
+     */
+    public Optional<Long> findDataVersion(Long studentId) {
+        return studentRepository.findDataVersionById(studentId);
+    }
+
+    /**
+     * now 시점 기준 미마감 과제/수업 조회
+     *
+     * @param dataVersion 조회 직전에 읽은 학생의 데이터 버전 (findDataVersion)
+     */
+    public OpenItems findOpen(Long studentId, long dataVersion, Instant now) {
+        OpenItems cached = cache.get(studentId, id -> loadOpen(id, dataVersion, now));
+        if (cached.dataVersion < dataVersion) {
+            cached = cache.asMap().merge(studentId, loadOpen(studentId, dataVersion, now), OpenItems::newer);
+        }
+        if (cached.loadedAt.isAfter(now)) {
+            // 캐시가 더 늦은 기준 시각으로 적재돼 now 시점의 미마감 항목 일부가 빠져 있음
+            return loadOpen(studentId, dataVersion, now);
+        }
+        return cached.openAt(now);
+    }
+
+    /**
+     * 보관된 다음 변경 시각 (같은 데이터 버전으로 계산했고 아직 그 시각 전일 때만)
+     *
+     * @param view 조회 종류와 조건 (같은 view면 같은 버전·같은 시각에 본문이 같아야 함)
+     * @return 없으면 empty (항목을 읽어 계산한 뒤 recordNextChange로 보관)
+     */
+    public OptionalLong findNextChange(Long studentId, String view, long dataVersion, Instant now) {
+        ViewStamp stamp = stamps.getIfPresent(studentId + ":" + view);
+        if (stamp == null || stamp.dataVersion != dataVersion || stamp.nextChange <= now.getEpochSecond()) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(stamp.nextChange);
+    }
+
+    /**
+     * 항목으로 계산한 다음 변경 시각 보관 (더 높은 버전이 이미 있으면 덮어쓰지 않음)
+     */
+    public void recordNextChange(Long studentId, String view, long dataVersion, long nextChange) {
+        stamps.asMap().merge(studentId + ":" + view, new ViewStamp(dataVersion, nextChange),
+                (x, y) -> x.dataVersion > y.dataVersion ? x : y);
+    }
+
+    /**
+     * 학생의 과제/수업이 바뀌었음을 기록 (데이터 버전 증가 + 캐시 무효화)
+     * - 트랜잭션 안에서 호출하면 버전 증가는 같은 트랜잭션에 포함됩니다.
+     */
+    public void markChanged(Long studentId) {
+        if (studentId == null) return;
+        studentRepository.incrementDataVersion(studentId);
+        invalidate(studentId);
+    }
+
+    /**
+     * 학생의 캐시 항목을 지움
+     * - 트랜잭션 안에서 호출하면 커밋 후에 지워, 커밋 전 데이터가 다시 적재되지 않도록 합니다.
+     */
+    public void invalidate(Long studentId) {
+        if (studentId == null) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(studentId);
+                }
+            });
+        } else {
+            cache.invalidate(studentId);
+        }
+    }
+
+    private OpenItems loadOpen(Long studentId, long dataVersion, Instant now) {
+        return new OpenItems(dataVersion, now, itemReader.find(studentId, DeadlineItemReader.Filter.openAt(now)));
+    }
+
+    private static final class ViewStamp {
+        private final long dataVersion;
+        private final long nextChange;
+
+        ViewStamp(long dataVersion, long nextChange) {
+            this.dataVersion = dataVersion;
+            this.nextChange = nextChange;
+        }
+    }
+
+    /**
+     * 학생의 미마감 과제/수업 목록 (불변, 마감 시각 순이며 마감일 없는 항목은 뒤)
+     */
+    public static final class OpenItems {
+        private final long dataVersion;
+        private final Instant loadedAt;
+        private final List<DeadlineItem> items;
+
+        OpenItems(long dataVersion, Instant loadedAt, List<DeadlineItem> items) {
+            this.dataVersion = dataVersion;
+            this.loadedAt = loadedAt;
+            this.items = items;
+        }
+
+        public List<DeadlineItem> getItems() { return items; }
+
+        /**
+         * now 이전에 마감된 항목을 뺀 목록 (뺄 것이 없으면 자기 자신)
+         * 마감 시각 순이므로 마감된 항목은 항상 앞쪽에 모여 있습니다.
+         */
+        OpenItems openAt(Instant now) {
+            int first = 0;
+            while (first < items.size() && !items.get(first).isOpenAt(now)) first++;
+            return first == 0 ? this : new OpenItems(dataVersion, loadedAt, items.subList(first, items.size()));
+        }
+
+        private static OpenItems newer(OpenItems x, OpenItems y) {
+            return x.dataVersion != y.dataVersion ? (x.dataVersion > y.dataVersion ? x : y)
+                    : (x.loadedAt.isAfter(y.loadedAt) ? y : x); // 같은 버전이면 더 이른 기준 시각(더 많은 항목)
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.inhash.backend.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * LMS 마감일 문자열 파서 (KST 기준)
+ * - 정규식, DateTimeFormatter, ZoneId 조회 없이 문자 단위로 읽어 바로 epoch 초를 계산합니다.
+ * - 지원 형식
+ *   "yyyy-MM-dd HH:mm[:ss]"  : 기존 ofPattern(SMART)과 동일 (31일까지는 월말로 보정, 24:00은 다음날 0시)
+ *   "yyyy-MM-ddTHH:mm[:ss[.f]]" : 기존 ISO_LOCAL_DATE_TIME(STRICT)과 동일 (공백도 T로 취급)
+ *   "시작 ~ 끝"               : VOD 수강 기간, '~' 뒤의 종료 시각을 사용
+ * - KST는 1988년 10월 이후 +09:00 고정이므로 그 이전 연도와 부호 있는 연도만 java.time으로 처리합니다.
+ */
+public final class DueDateParser {
+
+    /** parseEpochSecond 실패 값 */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final int KST_OFFSET_SECONDS = 9 * 3600;
+    private static final int FIXED_OFFSET_SINCE_YEAR = 1989;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
+    private DueDateParser() {}
+
+    /**
+     * @return 파싱한 시각, 형식이 맞지 않으면 null
+     */
+    public static Instant parse(String due) {
+        long epochSecond = parseEpochSecond(due);
+        if (epochSecond == INVALID) return null;
+        int dot = due.indexOf('.', due.indexOf('~') + 1);
+        return dot < 0 ? Instant.ofEpochSecond(epochSecond) : Instant.ofEpochSecond(epochSecond, fractionNanos(due, dot));
+    }
+
+    /**
+     * @return KST로 해석한 epoch 초, 형식이 맞지 않으면 {@link #INVALID}
+     */
+    public static long parseEpochSecond(String due) {
+        if (due == null) return INVALID;
+        int start = 0;
+        int end = due.length();
+        int tilde = due.indexOf('~');
+        if (tilde >= 0) start = tilde + 1; // VOD "시작 ~ 끝" 형식은 종료 시각만 사용
+        while (start < end && due.charAt(start) <= ' ') start++;
+        while (end > start && due.charAt(end - 1) <= ' ') end--;
+        if (start == end) return INVALID;
+
+        char first = due.charAt(start);
+        if (first == '+' || first == '-') return parseSignedYear(due.substring(start, end));
+
+        int len = end - start;
+        if ((len == 19 || len == 16) && due.charAt(start + 10) == ' ' && matchesSpaceLayout(due, start, len)) {
+            return parseSpaceForm(due, start, len == 19);
+        }
+        return parseIsoForm(due, start, end);
+    }
+
+    /**
+     * "yyyy-MM-dd HH:mm[:ss]" (ResolverStyle.SMART 규칙)
+     */
+    private static long parseSpaceForm(String s, int p, boolean hasSeconds) {
+        int year = digits(s, p, 4);
+        int month = digits(s, p + 5, 2);
+        int day = digits(s, p + 8, 2);
+        int hour = digits(s, p + 11, 2);
+        int minute = digits(s, p + 14, 2);
+        int second = hasSeconds ? digits(s, p + 17, 2) : 0;
+
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > 31) return INVALID;
+        if (minute > 59 || second > 59) return INVALID;
+        int extraDays = 0;
+        if (hour == 24) {
+            if (minute != 0 || second != 0) return INVALID;
+            hour = 0;
+            extraDays = 1; // 24:00 -> 다음날 00:00
+        } else if (hour > 23) {
+            return INVALID;
+        }
+        day = Math.min(day, lengthOfMonth(year, month));
+        return toEpochSecond(year, month, day, extraDays, hour, minute, second);
+    }
+
+    /**
+     * "yyyy-MM-ddTHH:mm[:ss[.fraction]]" (ISO_LOCAL_DATE_TIME, ResolverStyle.STRICT 규칙)
+     * - 기존 구현처럼 16자면 ":00"을 붙인 것으로, 공백은 'T'로 봅니다.
+     */
+    private static long parseIsoForm(String s, int p, int end) {
+        int len = end - p;
+        if (len < 16) return INVALID;
+        if (!isDigits(s, p, 4) || s.charAt(p + 4) != '-' || !isDigits(s, p + 5, 2) || s.charAt(p + 7) != '-'
+                || !isDigits(s, p + 8, 2) || !isDateTimeSeparator(s.charAt(p + 10))
+                || !isDigits(s, p + 11, 2) || s.charAt(p + 13) != ':' || !isDigits(s, p + 14, 2)) {
+            return INVALID;
+        }
+        int second = 0;
+        if (len > 16) {
+            if (len < 19 || s.charAt(p + 16) != ':' || !isDigits(s, p + 17, 2)) return INVALID;
+            second = digits(s, p + 17, 2);
+            if (len > 19) {
+                // 소수 초: '.' 뒤 0~9자리 숫자
+                if (s.charAt(p + 19) != '.' || len - 20 > 9 || !isDigits(s, p + 20, len - 20)) return INVALID;
+            }
+        }
+        int year = digits(s, p, 4);
+        int month = digits(s, p + 5, 2);
+        int day = digits(s, p + 8, 2);
+        int hour = digits(s, p + 11, 2);
+        int minute = digits(s, p + 14, 2);
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) return INVALID;
+        if (hour > 23 || minute > 59 || second > 59) return INVALID;
+        return toEpochSecond(year, month, day, 0, hour, minute, second);
+    }
+
+    private static long toEpochSecond(int year, int month, int day, int extraDays, int hour, int minute, int second) {
+        if (year < FIXED_OFFSET_SINCE_YEAR) {
+            // 서머타임/LMT 구간은 tz 규칙을 그대로 사용
+            return LocalDateTime.of(year, month, day, hour, minute, second)
+                    .plusDays(extraDays)
+                    .atZone(SEOUL)
+                    .toEpochSecond();
+        }
+        long epochDay = epochDay(year, month, day) + extraDays;
+        return epochDay * 86_400L + hour * 3_600L + minute * 60L + second - KST_OFFSET_SECONDS;
+    }
+
+    /** LocalDate.toEpochDay와 같은 계산 (0년 이상) */
+    private static long epochDay(long year, int month, int day) {
+        long total = 365 * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) total--;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2: return isLeapYear(year) ? 29 : 28;
+            case 4: case 6: case 9: case 11: return 30;
+            default: return 31;
+        }
+    }
+
+    private static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static boolean matchesSpaceLayout(String s, int p, int len) {
+        return isDigits(s, p, 4) && s.charAt(p + 4) == '-' && isDigits(s, p + 5, 2) && s.charAt(p + 7) == '-'
+                && isDigits(s, p + 8, 2) && isDigits(s, p + 11, 2) && s.charAt(p + 13) == ':' && isDigits(s, p + 14, 2)
+                && (len == 16 || (s.charAt(p + 16) == ':' && isDigits(s, p + 17, 2)));
+    }
+
+    private static boolean isDateTimeSeparator(char c) {
+        return c == 'T' || c == 't' || c == ' ';
+    }
+
+    private static boolean isDigits(String s, int p, int n) {
+        for (int i = p; i < p + n; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
+    }
+
+    private static int digits(String s, int p, int n) {
+        int v = 0;
+        for (int i = p; i < p + n; i++) v = v * 10 + (s.charAt(i) - '0');
+        return v;
+    }
+
+    private static int fractionNanos(String s, int dot) {
+        int nanos = 0;
+        int scale = 100_000_000;
+        for (int i = dot + 1; i < s.length() && scale > 0; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') break;
+            nanos += (c - '0') * scale;
+            scale /= 10;
+        }
+        return nanos;
+    }
+
+    /**
+     * 부호 있는 연도(+12025-..., -0001-...)는 드물어서 기존 ISO 파싱을 그대로 사용
+     */
+    private static long parseSignedYear(String norm) {
+        try {
+            if (norm.length() == 16) norm = norm + ":00";
+            return LocalDateTime.parse(norm.replace(' ', 'T')).atZone(SEOUL).toEpochSecond();
+        } catch (RuntimeException e) {
+            return INVALID;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.inhash.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inhash.backend.domain.IdempotencyRecord;
+import com.inhash.backend.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더 처리
+ * - 같은 키로 다시 온 요청은 처리하지 않고 처음 요청의 응답(상태 코드와 본문)을 그대로 돌려줍니다.
+ * - 처음 요청이 아직 처리 중이면 끝날 때까지 기다렸다가 같은 응답을 돌려줍니다 (최대 wait-seconds).
+ * - 5xx, 429, 408처럼 다시 시도해야 하는 응답과 예외는 저장하지 않으므로 같은 키로 재시도할 수 있습니다.
+ *   그래서 action은 일시적인 서버 오류(DB 타임아웃, 교착 상태 등)를 4xx로 바꾸면 안 되고,
+ *   검증 실패 400이나 409(기준 버전 불일치)처럼 다시 보내도 결과가 같은 응답만 4xx로 돌려줘야 합니다.
+ * - 기본 저장소는 프로세스 내 캐시(TTL, 최대 개수 제한)입니다.
+ *   store=database 이면 idempotency_keys 테이블에 pending 행을 먼저 넣어 인스턴스 사이에서도 키를 선점합니다.
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 200;
+    /** 이 시간보다 오래된 pending 행은 처리하던 인스턴스가 중단된 것으로 보고 넘겨받음 */
+    private static final Duration STALE_PENDING = Duration.ofMinutes(5);
+
+    private final IdempotencyRecordRepository repository;
+    private final ObjectMapper objectMapper;
+    private final boolean databaseStore;
+    private final Duration ttl;
+    private final long waitMillis;
+    private final Cache<String, CompletableFuture<StoredResponse>> responses;
+    private final Counter executed;
+    private final Counter replayed;
+
+    public IdempotencyService(IdempotencyRecordRepository repository,
+                              ObjectMapper objectMapper,
+                              @Value("${inhash.idempotency.store:memory}") String store,
+                              @Value("${inhash.idempotency.ttl-minutes:1440}") long ttlMinutes,
+                              @Value("${inhash.idempotency.max-entries:10000}") long maxEntries,
+                              @Value("${inhash.idempotency.wait-seconds:30}") long waitSeconds,
+                              MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.databaseStore = "database".equals(store.trim().toLowerCase(Locale.ROOT));
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.waitMillis = TimeUnit.SECONDS.toMillis(waitSeconds);
+        this.responses = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .build();
+        this.executed = Counter.builder("inhash.idempotency.requests")
+                .description("멱등성 키가 붙은 요청 수")
+                .tag("result", "executed")
+                .register(meterRegistry);
+        this.replayed = Counter.builder("inhash.idempotency.requests")
+                .description("멱등성 키가 붙은 요청 수")
+                .tag("result", "replayed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키가 처음이면 action을 실행해 응답을 저장하고, 이미 처리한 키면 저장된 응답을 돌려줌
+     *
+     * @param scope 키가 적용되는 범위 (엔드포인트와 학생 등, 다른 범위의 같은 키는 별개로 취급)
+     * @param key Idempotency-Key 헤더 값 (없으면 action을 그대로 실행)
+     */
+    public ResponseEntity<Map<String, Object>> execute(String scope, String key,
+                                                       Supplier<ResponseEntity<Map<String, Object>>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            return error(HttpStatus.BAD_REQUEST, HEADER + " must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+        String cacheKey = scope + ":" + key.trim();
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> first = responses.asMap().putIfAbsent(cacheKey, mine);
+        if (first != null) {
+            return awaitFirst(first, scope, key, action);
+        }
+
+        boolean claimed = false;
+        try {
+            if (databaseStore) {
+                StoredResponse stored = claimOrAwaitDatabase(cacheKey);
+                if (stored != null) {
+                    mine.complete(stored);
+                    replayed.increment();
+                    return stored.replay();
+                }
+                claimed = true;
+            }
+            executed.increment();
+            ResponseEntity<Map<String, Object>> response = action.get();
+            StoredResponse result = new StoredResponse(response.getStatusCode().value(), response.getBody());
+            if (result.isRetryable()) {
+                forget(cacheKey, mine, claimed);
+            } else if (claimed) {
+                saveDone(cacheKey, result);
+            }
+            mine.complete(result);
+            return response;
+        } catch (IdempotencyInProgressException e) {
+            responses.asMap().remove(cacheKey, mine);
+            mine.completeExceptionally(e);
+            return error(HttpStatus.CONFLICT, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (RuntimeException e) {
+            forget(cacheKey, mine, claimed);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 만료된 저장 응답 정리 (database 저장소)
+     */
+    @Scheduled(fixedDelay = 3_600_000L)
+    public void purgeExpired() {
+        if (!databaseStore) return;
+        int purged = repository.deleteCreatedBefore(Instant.now().minus(ttl));
+        if (purged > 0) {
+            System.out.println("[Idempotency] purged " + purged + " expired keys");
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> awaitFirst(CompletableFuture<StoredResponse> first, String scope,
+                                                           String key,
+                                                           Supplier<ResponseEntity<Map<String, Object>>> action) {
+        try {
+            StoredResponse stored = first.get(waitMillis, TimeUnit.MILLISECONDS);
+            if (stored.isRetryable()) {
+                // 처음 요청이 일시적 실패(5xx/429/408)로 끝나 저장되지 않고 키가 풀렸으므로 이 요청이 다시 실행
+                return execute(scope, key, action);
+            }
+            replayed.increment();
+            return stored.replay();
+        } catch (TimeoutException e) {
+            return error(HttpStatus.CONFLICT, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (ExecutionException e) {
+            // 처음 요청이 예외로 끝나 키가 풀렸으므로 이 요청이 다시 실행
+            return execute(scope, key, action);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return error(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while waiting for the original request");
+        }
+    }
+
+    /**
+     * 키를 DB에 pending으로 선점 (이미 끝난 키면 저장된 응답 반환, 다른 인스턴스가 처리 중이면 대기)
+     *
+     * @return 저장된 응답, 이 인스턴스가 선점했으면 null
+     */
+    private StoredResponse claimOrAwaitDatabase(String cacheKey) {
+        long deadline = System.currentTimeMillis() + waitMillis;
+        while (true) {
+            Optional<IdempotencyRecord> existing = repository.findByIdempotencyKey(cacheKey);
+            if (existing.isEmpty()) {
+                IdempotencyRecord record = new IdempotencyRecord();
+                record.setIdempotencyKey(cacheKey);
+                record.setStatus("pending");
+                try {
+                    repository.saveAndFlush(record);
+                    return null;
+                } catch (DataIntegrityViolationException e) {
+                    continue; // 다른 인스턴스가 먼저 선점
+                }
+            }
+            IdempotencyRecord record = existing.get();
+            if ("done".equals(record.getStatus())) {
+                return new StoredResponse(record.getResponseStatus(), readBody(record.getResponseBody()));
+            }
+            if (record.getCreatedAt() != null && record.getCreatedAt().isBefore(Instant.now().minus(STALE_PENDING))) {
+                repository.deletePending(cacheKey);
+                continue;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                throw new IdempotencyInProgressException();
+            }
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IdempotencyInProgressException();
+            }
+        }
+    }
+
+    private void saveDone(String cacheKey, StoredResponse result) {
+        repository.findByIdempotencyKey(cacheKey).ifPresent(record -> {
+            record.setStatus("done");
+            record.setResponseStatus(result.status);
+            record.setResponseBody(writeBody(result.body));
+            repository.save(record);
+        });
+    }
+
+    private void forget(String cacheKey, CompletableFuture<StoredResponse> mine, boolean claimed) {
+        responses.asMap().remove(cacheKey, mine);
+        if (claimed) {
+            repository.deletePending(cacheKey);
+        }
+    }
+
+    private String writeBody(Map<String, Object> body) {
+        try {
+            return body == null ? null : objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response body", e);
+        }
+    }
+
+    private Map<String, Object> readBody(String json) {
+        try {
+            return json == null ? null : objectMapper.readValue(json, new TypeReference<Map<String, Object>>() {});
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read stored response body", e);
+        }
+    }
+
+    private static ResponseEntity<Map<String, Object>> error(HttpStatus status, String message) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("success", false);
+        error.put("error", message);
+        return ResponseEntity.status(status).body(error);
+    }
+
+    private static final class StoredResponse {
+        final int status;
+        final Map<String, Object> body;
+
+        StoredResponse(int status, Map<String, Object> body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        boolean isRetryable() {
+            return status >= 500 || status == HttpStatus.TOO_MANY_REQUESTS.value()
+                    || status == HttpStatus.REQUEST_TIMEOUT.value();
+        }
+
+        ResponseEntity<Map<String, Object>> replay() {
+            return ResponseEntity.status(status).header("Idempotent-Replayed", "true").body(body);
+        }
+    }
+
+    private static final class IdempotencyInProgressException extends RuntimeException {
+    }
+}
@@ -0,0 +1,174 @@
+package com.inhash.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 제출 수용 제어 (학생별 속도 제한 + 전체 동시 처리 수 제한)
+ * - 학생별 제한은 토큰 버킷과 같은 GCRA 방식입니다. 분당 per-minute개씩 채워지고 최대 burst개까지 쌓입니다.
+ *   학생마다 "다음 토큰이 준비되는 시각" 하나만 AtomicLong으로 두고 CAS로 갱신하므로 잠금이 없습니다.
+ *   버킷은 일정 시간 제출이 없으면 캐시에서 빠집니다 (가득 찬 버킷과 같은 상태).
+ * - 전체 동시 처리 수는 AtomicInteger 하나로 셉니다.
+ * - 거절은 inhash.ingest.rejected{reason=rate|concurrency, clientVersion, clientPlatform} 메트릭으로 집계됩니다.
+ *   태그 값은 클라이언트가 보낸 문자열이므로 종류가 유한하도록 플랫폼은 허용 목록(그 외 other)으로,
+ *   버전은 major.minor로 묶고 서로 다른 값은 max-version-tags개까지만(그 뒤로는 other) 태그로 씁니다.
+ * - 속도 제한은 본문을 읽기 전에 확인하므로, 거절 시 버전/플랫폼은 선택 헤더(X-Client-Version, X-Client-Platform)가
+ *   있으면 그 값을, 없으면 그 학생이 마지막으로 보낸 본문(DTO)의 값(rememberClient)을 씁니다.
+ */
+@Component
+public class IngestAdmissionControl {
+
+    private static final Pattern VERSION = Pattern.compile("^[vV]?(\\d{1,4})\\.(\\d{1,4})");
+
+    private final boolean rateLimitEnabled;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int maxConcurrent;
+    private final Cache<Long, AtomicLong> buckets;
+    private final Cache<Long, String[]> clients;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final MeterRegistry meterRegistry;
+    private final Set<String> platforms;
+    private final Set<String> versionTags = ConcurrentHashMap.newKeySet();
+    private final int maxVersionTags;
+
+    public IngestAdmissionControl(@Value("${inhash.ingest.rate-limit.enabled:true}") boolean rateLimitEnabled,
+                                  @Value("${inhash.ingest.rate-limit.per-minute:6}") int perMinute,
+                                  @Value("${inhash.ingest.rate-limit.burst:3}") int burst,
+                                  @Value("${inhash.ingest.max-concurrent:32}") int maxConcurrent,
+                                  @Value("${inhash.ingest.metrics.platforms:windows,macos,linux,android,ios,web,relay}") String platforms,
+                                  @Value("${inhash.ingest.metrics.max-version-tags:20}") int maxVersionTags,
+                                  MeterRegistry meterRegistry) {
+        this.rateLimitEnabled = rateLimitEnabled && perMinute > 0;
+        this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, perMinute);
+        this.burstNanos = intervalNanos * Math.max(1, burst);
+        this.maxConcurrent = maxConcurrent;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofNanos(burstNanos))
+                .build();
+        this.clients = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofDays(1))
+                .build();
+        this.meterRegistry = meterRegistry;
+        this.platforms = Arrays.stream(platforms.split(","))
+                .map(p -> p.trim().toLowerCase(Locale.ROOT))
+                .filter(p -> !p.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.maxVersionTags = Math.max(0, maxVersionTags);
+        Gauge.builder("inhash.ingest.in-flight", inFlight, AtomicInteger::get)
+                .description("처리 중인 제출 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 학생의 토큰 하나 사용
+     *
+     * @return 0이면 허용, 아니면 다음 토큰까지 남은 초 (Retry-After 값)
+     */
+    public long tryConsume(Long studentId) {
+        if (!rateLimitEnabled || studentId == null) return 0;
+        AtomicLong ready = buckets.get(studentId, id -> new AtomicLong(Long.MIN_VALUE));
+        long now = System.nanoTime();
+        while (true) {
+            long current = ready.get();
+            // 버킷이 가득 찬 상태보다 과거로 가지 않도록 now - burst를 하한으로
+            long base = current == Long.MIN_VALUE || current - (now - burstNanos) < 0 ? now - burstNanos : current;
+            long next = base + intervalNanos;
+            if (next - now > 0) {
+                long waitNanos = next - now;
+                return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            }
+            if (ready.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 동시 처리 자리 하나 확보 (성공하면 반드시 release 호출)
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxConcurrent) return false;
+            if (inFlight.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 본문에서 읽은 학생의 클라이언트 버전/플랫폼 기록 (본문을 읽기 전에 거절할 때 태그로 사용)
+     */
+    public void rememberClient(Long studentId, String clientVersion, String clientPlatform) {
+        if (studentId == null || (clientVersion == null && clientPlatform == null)) return;
+        clients.put(studentId, new String[]{clientVersion, clientPlatform});
+    }
+
+    /**
+     * 거절 기록 (클라이언트 버전/플랫폼별)
+     * - 버전/플랫폼이 null이면 학생이 마지막으로 보낸 본문의 값을 씁니다.
+     *
+     * @param reason rate 또는 concurrency
+     * @param studentId 학생 ID (배치처럼 알 수 없으면 null)
+     */
+    public void recordRejection(String reason, Long studentId, String clientVersion, String clientPlatform) {
+        String[] remembered = studentId != null ? clients.getIfPresent(studentId) : null;
+        if (remembered != null) {
+            if (clientVersion == null) clientVersion = remembered[0];
+            if (clientPlatform == null) clientPlatform = remembered[1];
+        }
+        Counter.builder("inhash.ingest.rejected")
+                .description("수용 제어로 거절된 제출 수")
+                .tag("reason", reason)
+                .tag("clientVersion", versionTag(clientVersion))
+                .tag("clientPlatform", platformTag(clientPlatform))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 플랫폼 태그 (허용 목록에 있는 값만 소문자로, 나머지는 other)
+     */
+    String platformTag(String platform) {
+        if (platform == null || platform.isBlank()) return "unknown";
+        String normalized = platform.trim().toLowerCase(Locale.ROOT);
+        return platforms.contains(normalized) ? normalized : "other";
+    }
+
+    /**
+     * 버전 태그 (major.minor로 묶고, 처음 본 max-version-tags개까지만 태그로 쓰고 나머지는 other)
+     */
+    String versionTag(String version) {
+        if (version == null || version.isBlank()) return "unknown";
+        Matcher m = VERSION.matcher(version.trim());
+        if (!m.find()) return "other";
+        String tag = Integer.parseInt(m.group(1)) + "." + Integer.parseInt(m.group(2));
+        if (versionTags.contains(tag)) return tag;
+        synchronized (versionTags) {
+            if (versionTags.size() >= maxVersionTags) return "other";
+            versionTags.add(tag);
+        }
+        return tag;
+    }
+}
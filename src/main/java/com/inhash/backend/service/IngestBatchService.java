@@ -0,0 +1,200 @@
+package com.inhash.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inhash.backend.domain.SyncLog;
+import com.inhash.backend.repository.SyncLogRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipException;
+
+/**
+ * 여러 학생의 제출 데이터를 한 번에 받는 NDJSON 배치 처리 (캠퍼스 중계 클라이언트용)
+ * - 본문을 한 줄씩 읽어 정규화가 끝나는 대로 ingestExecutor에 넘기고, 동시에 처리하는 학생 수는
+ *   parallelism으로 제한합니다. 같은 학생은 StudentIngestLock으로 순서대로 반영됩니다.
+ * - 학생별 결과는 끝나는 순서대로 한 줄씩 응답에 씁니다. 마지막 줄은 요약(done=true)입니다.
+ * - 학생별 SyncLog 대신 배치 단위 SyncLog를 하나만 남깁니다.
+ * - 학생별 제출 간격 제한(IngestAdmissionControl)은 줄마다 적용되어, 걸린 학생만 retryAfter와 함께 실패로 응답합니다.
+ */
+@Service
+public class IngestBatchService {
+
+    private final ClientCrawlService clientCrawlService;
+    private final CrawlPayloadReader crawlPayloadReader;
+    private final SyncLogRepository syncLogRepository;
+    private final Executor ingestExecutor;
+    private final ObjectMapper objectMapper;
+    private final IngestAdmissionControl admissionControl;
+
+    @Value("${inhash.ingest.batch.parallelism:4}")
+    private int parallelism;
+
+    @Value("${inhash.ingest.batch.max-students:500}")
+    private int maxStudents;
+
+    @Value("${inhash.ingest.batch.max-bytes:33554432}")
+    private long maxBytes;
+
+    public IngestBatchService(ClientCrawlService clientCrawlService,
+                              CrawlPayloadReader crawlPayloadReader,
+                              SyncLogRepository syncLogRepository,
+                              @Qualifier("ingestExecutor") Executor ingestExecutor,
+                              ObjectMapper objectMapper,
+                              IngestAdmissionControl admissionControl) {
+        this.clientCrawlService = clientCrawlService;
+        this.crawlPayloadReader = crawlPayloadReader;
+        this.syncLogRepository = syncLogRepository;
+        this.ingestExecutor = ingestExecutor;
+        this.objectMapper = objectMapper;
+        this.admissionControl = admissionControl;
+    }
+
+    /**
+     * 배치 본문을 처리하며 결과를 NDJSON으로 기록
+     * - 응답 쓰기는 호출 스레드에서만 하고, 워커는 결과를 큐에 넣기만 합니다.
+     * - 본문 한도 초과나 JSON 문법 오류로 읽기가 중단되어도 이미 넘긴 학생은 끝까지 처리해 결과를 돌려줍니다.
+     */
+    public void process(InputStream body, String contentEncoding, OutputStream out) throws IOException {
+        BatchRun run = new BatchRun(out);
+        String fatal = null;
+        try {
+            crawlPayloadReader.readBatch(body, contentEncoding, maxBytes, (line, studentId, payload, error) -> {
+                if (error != null) {
+                    run.write(result(line, studentId, false, error, null));
+                    return;
+                }
+                if (run.dispatched >= maxStudents) {
+                    throw new PayloadTooLargeException("Too many students (max " + maxStudents + ")");
+                }
+                // /submit과 같은 학생별 제출 간격 제한
+                admissionControl.rememberClient(studentId, payload.getClientVersion(), payload.getClientPlatform());
+                long retryAfter = admissionControl.tryConsume(studentId);
+                if (retryAfter > 0) {
+                    admissionControl.recordRejection("rate", studentId, payload.getClientVersion(), payload.getClientPlatform());
+                    Map<String, Object> rejected = result(line, studentId, false, "rate limited", null);
+                    rejected.put("retryAfter", retryAfter);
+                    run.write(rejected);
+                    return;
+                }
+                run.dispatch(line, studentId, payload);
+            });
+        } catch (PayloadTooLargeException | JsonProcessingException | ZipException e) {
+            fatal = e.getMessage();
+        }
+        run.awaitAll();
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("done", true);
+        summary.put("students", run.dispatched);
+        summary.put("failed", run.failed);
+        if (fatal != null) summary.put("error", fatal);
+        run.write(summary);
+
+        SyncLog log = new SyncLog();
+        log.setSource("client-batch:" + run.dispatched);
+        log.setStatus(fatal == null && run.failed == 0 ? "success" : "partial");
+        log.setMessage("students=" + run.dispatched + ", failed=" + run.failed
+                + (fatal != null ? ", error=" + fatal : ""));
+        syncLogRepository.save(log);
+    }
+
+    private static Map<String, Object> result(int line, Long studentId, boolean success, String error,
+                                              IngestResult ingest) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("line", line);
+        result.put("studentId", studentId);
+        result.put("success", success);
+        if (error != null) {
+            result.put("error", error);
+        }
+        if (ingest != null) {
+            result.put("status", ingest.isSnapshotUnchanged() ? "unchanged" : "updated");
+            result.put("added", ingest.getAdded());
+            result.put("updated", ingest.getUpdated());
+            result.put("removed", ingest.getRemoved());
+            result.put("snapshotVersion", ingest.getSnapshotVersion());
+        }
+        return result;
+    }
+
+    /**
+     * 배치 한 건의 진행 상태 (호출 스레드 전용, 워커와는 results 큐로만 주고받음)
+     */
+    private final class BatchRun {
+        private final OutputStream out;
+        private final Semaphore permits = new Semaphore(Math.max(1, parallelism));
+        private final BlockingQueue<Map<String, Object>> results = new LinkedBlockingQueue<>();
+        private int dispatched;
+        private int completed;
+        private int failed;
+
+        BatchRun(OutputStream out) {
+            this.out = out;
+        }
+
+        void dispatch(int line, Long studentId, IngestPayload payload) throws IOException {
+            try {
+                // 빈 워커를 기다리는 동안에도 끝난 결과는 바로 내보냄
+                while (!permits.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                    drain();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for an ingest worker");
+            }
+            dispatched++;
+            ingestExecutor.execute(() -> {
+                try {
+                    IngestResult ingest = clientCrawlService.processPayload(studentId, payload, false);
+                    results.add(result(line, studentId, true, null, ingest));
+                } catch (Exception e) {
+                    results.add(result(line, studentId, false, e.getMessage(), null));
+                } finally {
+                    permits.release();
+                }
+            });
+            drain();
+        }
+
+        void drain() throws IOException {
+            Map<String, Object> r;
+            while ((r = results.poll()) != null) {
+                completed++;
+                write(r);
+            }
+        }
+
+        void awaitAll() throws IOException {
+            try {
+                while (completed < dispatched) {
+                    Map<String, Object> r = results.take();
+                    completed++;
+                    write(r);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for batch results");
+            }
+        }
+
+        void write(Map<String, Object> r) throws IOException {
+            if (Boolean.FALSE.equals(r.get("success"))) failed++;
+            out.write(objectMapper.writeValueAsBytes(r));
+            out.write('\n');
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.inhash.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 항목 단위 디버그 로그 (기본 꺼짐)
+ * - 켜져 있어도 sample-rate 비율의 항목만 기록합니다.
+ * - 기록은 별도 스레드에서 하므로 DB 트랜잭션 중인 요청 스레드가 콘솔 출력으로 막히지 않습니다.
+ *   대기열이 가득 차면 로그를 버립니다.
+ * - 호출 측은 sample()이 true일 때만 메시지 인자를 만들어야 합니다.
+ */
+@Component
+public class IngestDebugLog implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestDebugLog.class);
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final ThreadPoolExecutor writer;
+
+    public IngestDebugLog(@Value("${inhash.ingest.debug.enabled:false}") boolean enabled,
+                          @Value("${inhash.ingest.debug.sample-rate:0.01}") double sampleRate) {
+        this.enabled = enabled && sampleRate > 0;
+        this.sampleRate = sampleRate;
+        if (this.enabled) {
+            this.writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(1000),
+                    r -> {
+                        Thread t = new Thread(r, "ingest-debug-log");
+                        t.setDaemon(true);
+                        return t;
+                    },
+                    new ThreadPoolExecutor.DiscardPolicy());
+        } else {
+            this.writer = null;
+        }
+    }
+
+    /** 이번 항목을 기록할지 여부 */
+    public boolean sample() {
+        return enabled && (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    public void log(String format, Object... args) {
+        if (writer != null) {
+            writer.execute(() -> log.info(format, args));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (writer != null) writer.shutdown();
+    }
+}
@@ -0,0 +1,10 @@
+package com.inhash.backend.service;
+
+/**
+ * 같은 학생의 다른 반영 작업이 끝나기를 기다리다 제한 시간을 넘겼을 때 발생
+ */
+public class IngestLockTimeoutException extends RuntimeException {
+    public IngestLockTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,107 @@
+package com.inhash.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트 크롤링 데이터 반영 파이프라인 계측
+ * - 단계별 소요 시간: inhash.ingest.stage{stage=bind|normalize|diff|write|status}
+ * - 항목 수: inhash.ingest.items{result=received|filtered|added|updated|removed|unchanged}
+ * - 제출 결과: inhash.ingest.submissions{outcome=applied|unchanged|failed}
+ * 모두 /actuator/metrics 에서 조회할 수 있습니다.
+ */
+@Component
+public class IngestMetrics {
+
+    public enum Stage { BIND, NORMALIZE, DIFF, WRITE, STATUS }
+
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Counter received;
+    private final Counter filtered;
+    private final Counter added;
+    private final Counter updated;
+    private final Counter removed;
+    private final Counter unchanged;
+    private final Counter applied;
+    private final Counter snapshotUnchanged;
+    private final Counter failed;
+    private final Counter unparsedDue;
+
+    public IngestMetrics(MeterRegistry registry) {
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("inhash.ingest.stage")
+                    .description("반영 단계별 소요 시간")
+                    .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+        this.received = items(registry, "received");
+        this.filtered = items(registry, "filtered");
+        this.added = items(registry, "added");
+        this.updated = items(registry, "updated");
+        this.removed = items(registry, "removed");
+        this.unchanged = items(registry, "unchanged");
+        this.applied = submissions(registry, "applied");
+        this.snapshotUnchanged = submissions(registry, "unchanged");
+        this.failed = submissions(registry, "failed");
+        this.unparsedDue = Counter.builder("inhash.ingest.due.unparsed")
+                .description("형식을 해석하지 못한 마감일 수")
+                .register(registry);
+    }
+
+    public void record(Stage stage, long nanos) {
+        stageTimers.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 본문 읽기 결과 기록 (전체 시간 중 항목 정규화 시간을 뺀 나머지를 bind로 기록)
+     */
+    public void recordParse(IngestPayload payload, long totalNanos) {
+        long normalizeNanos = payload.getNormalizeNanos();
+        record(Stage.NORMALIZE, normalizeNanos);
+        record(Stage.BIND, Math.max(0, totalNanos - normalizeNanos));
+        received.increment(payload.getReceivedItems());
+        filtered.increment(payload.getReceivedItems() - payload.getItems().size());
+    }
+
+    public void recordResult(IngestResult result) {
+        if (result.isSnapshotUnchanged()) {
+            snapshotUnchanged.increment();
+            unchanged.increment(result.getUnchanged());
+            return;
+        }
+        applied.increment();
+        added.increment(result.getAdded());
+        updated.increment(result.getUpdated());
+        removed.increment(result.getRemoved());
+        unchanged.increment(result.getUnchanged());
+    }
+
+    public void recordFailure() {
+        failed.increment();
+    }
+
+    public void recordUnparsedDue() {
+        unparsedDue.increment();
+    }
+
+    private static Counter items(MeterRegistry registry, String result) {
+        return Counter.builder("inhash.ingest.items")
+                .description("반영 단계별 항목 수")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Counter submissions(MeterRegistry registry, String outcome) {
+        return Counter.builder("inhash.ingest.submissions")
+                .description("제출 처리 결과")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,93 @@
+package com.inhash.backend.service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 반영 대기 중인 클라이언트 제출 데이터
+ * - 원본 DTO 대신 정규화가 끝난 항목만 보관하므로, 큐에 머무는 동안의 메모리 사용량이 작습니다.
+ */
+public final class IngestPayload {
+
+    private final String clientVersion;
+    private final String clientPlatform;
+    private final String crawledAt;
+    private final int courseCount;
+    private final int receivedItems;
+    private final long normalizeNanos;
+    private final List<NormalizedItem> items;
+
+    private IngestPayload(Builder b) {
+        this.clientVersion = b.clientVersion;
+        this.clientPlatform = b.clientPlatform;
+        this.crawledAt = b.crawledAt;
+        this.courseCount = b.courseCount;
+        this.receivedItems = b.receivedItems;
+        this.normalizeNanos = b.normalizeNanos;
+        this.items = Collections.unmodifiableList(b.items);
+    }
+
+    public String getClientVersion() { return clientVersion; }
+    public String getClientPlatform() { return clientPlatform; }
+    public String getCrawledAt() { return crawledAt; }
+    public int getCourseCount() { return courseCount; }
+    /** 필터링 전 수신 항목 수 */
+    public int getReceivedItems() { return receivedItems; }
+    /** 항목 정규화/필터링에 쓴 시간 (IngestMetrics normalize 단계) */
+    public long getNormalizeNanos() { return normalizeNanos; }
+    /** 정규화/필터링을 통과한 항목 */
+    public List<NormalizedItem> getItems() { return items; }
+
+    public static Builder builder(Long studentId, CrawlItemNormalizer normalizer) {
+        return new Builder(studentId, normalizer);
+    }
+
+    /**
+     * 항목을 하나씩 받아 즉시 정규화하는 빌더 (스트리밍 파서와 DTO 변환이 공용으로 사용)
+     */
+    public static final class Builder {
+        private final Long studentId;
+        private final CrawlItemNormalizer normalizer;
+        private final Instant now = Instant.now();
+        private final Instant oneMonthLater = now.plus(30, ChronoUnit.DAYS);
+        private final List<NormalizedItem> items = new ArrayList<>();
+        private String clientVersion;
+        private String clientPlatform;
+        private String crawledAt;
+        private int courseCount;
+        private int receivedItems;
+        private long normalizeNanos;
+
+        private Builder(Long studentId, CrawlItemNormalizer normalizer) {
+            this.studentId = studentId;
+            this.normalizer = normalizer;
+        }
+
+        public Builder clientVersion(String clientVersion) { this.clientVersion = clientVersion; return this; }
+        public Builder clientPlatform(String clientPlatform) { this.clientPlatform = clientPlatform; return this; }
+        public Builder crawledAt(String crawledAt) { this.crawledAt = crawledAt; return this; }
+        public Builder courseCount(int courseCount) { this.courseCount = courseCount; return this; }
+
+        public int getReceivedItems() { return receivedItems; }
+
+        /**
+         * 수신 항목 하나를 정규화해 추가 (필터에 걸리면 버림)
+         */
+        public void addItem(String type, String courseName, String title, String due) {
+            receivedItems++;
+            long started = System.nanoTime();
+            NormalizedItem item = normalizer.normalize(studentId, type, courseName, title, due, now, oneMonthLater);
+            normalizeNanos += System.nanoTime() - started;
+            if (item != null) {
+                items.add(item);
+            }
+        }
+
+        public IngestPayload build() {
+            return new IngestPayload(this);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.inhash.backend.service;
+
+/**
+ * 비동기 반영 큐가 가득 차 새 제출을 받을 수 없을 때 발생
+ */
+public class IngestQueueFullException extends RuntimeException {
+    public IngestQueueFullException(String message) {
+        super(message);
+    }
+}
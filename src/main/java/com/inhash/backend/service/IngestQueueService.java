@@ -0,0 +1,238 @@
+package com.inhash.backend.service;
+
+import com.inhash.backend.domain.SyncJob;
+import com.inhash.backend.repository.SyncJobRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 클라이언트 크롤링 데이터 비동기 반영 큐 (학생별 병합)
+ * - 제출 즉시 SyncJob(queued)을 만들고 jobId를 티켓으로 돌려줍니다. 진행 상태는 /api/jobs/{jobId}로 조회합니다.
+ * - 학생당 대기 작업은 최대 1개입니다. 처리 전에 다시 제출하면 새 데이터가 이전 데이터를 대체하고
+ *   이전 작업은 superseded로 마감됩니다.
+ * - 같은 학생의 작업은 한 워커가 순서대로 처리하고, 다른 학생끼리는 ingestExecutor 풀에서 병렬로 처리됩니다.
+ */
+@Service
+public class IngestQueueService {
+
+    private final ClientCrawlService clientCrawlService;
+    private final SyncJobRepository syncJobRepository;
+    private final Executor ingestExecutor;
+
+    /** 학생별 레인: 다음에 처리할 작업 1개와 워커 배정 여부 */
+    private final ConcurrentHashMap<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+    @Value("${inhash.ingest.queue.max-pending:2000}")
+    private int maxPending;
+
+    public IngestQueueService(ClientCrawlService clientCrawlService,
+                              SyncJobRepository syncJobRepository,
+                              @Qualifier("ingestExecutor") Executor ingestExecutor,
+                              MeterRegistry meterRegistry) {
+        this.clientCrawlService = clientCrawlService;
+        this.syncJobRepository = syncJobRepository;
+        this.ingestExecutor = ingestExecutor;
+        Gauge.builder("inhash.ingest.queue.depth", this, IngestQueueService::depth)
+                .description("처리 대기 중인 학생 수")
+                .register(meterRegistry);
+        Gauge.builder("inhash.ingest.queue.oldest.age", this, q -> q.oldestAgeMillis() / 1000.0)
+                .description("가장 오래 대기 중인 작업의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 데이터를 큐에 넣고 jobId(티켓)를 반환
+     *
+     * @throws IngestQueueFullException 대기 학생 수가 한도를 넘은 경우
+     */
+    public String submit(Long studentId, IngestPayload data) {
+        if (!lanes.containsKey(studentId) && lanes.size() >= maxPending) {
+            throw new IngestQueueFullException("Ingest queue is full (" + maxPending + " pending students)");
+        }
+
+        String jobId = UUID.randomUUID().toString();
+        SyncJob job = new SyncJob();
+        job.setJobId(jobId);
+        job.setStudentId(studentId);
+        job.setStatus("queued");
+        syncJobRepository.save(job);
+
+        PendingIngest pendingIngest = new PendingIngest(jobId, data);
+        boolean[] needsWorker = new boolean[1];
+        lanes.compute(studentId, (id, lane) -> {
+            if (lane == null) lane = new Lane();
+            if (lane.next != null) {
+                // 아직 처리 전인 이전 제출은 새 데이터로 대체
+                pendingIngest.superseded.addAll(lane.next.superseded);
+                pendingIngest.superseded.add(lane.next.jobId);
+            }
+            lane.next = pendingIngest;
+            if (!lane.scheduled) {
+                lane.scheduled = true;
+                needsWorker[0] = true;
+            }
+            return lane;
+        });
+
+        if (needsWorker[0]) {
+            schedule(studentId);
+        }
+        return jobId;
+    }
+
+    /** 처리 대기 중인 학생 수 */
+    public int depth() {
+        int depth = 0;
+        for (Lane lane : lanes.values()) {
+            if (lane.next != null) depth++;
+        }
+        return depth;
+    }
+
+    /** 가장 오래 대기 중인 작업의 대기 시간(ms), 없으면 0 */
+    public long oldestAgeMillis() {
+        long oldest = Long.MAX_VALUE;
+        for (Lane lane : lanes.values()) {
+            PendingIngest next = lane.next;
+            if (next != null) oldest = Math.min(oldest, next.enqueuedAt);
+        }
+        return oldest == Long.MAX_VALUE ? 0 : System.currentTimeMillis() - oldest;
+    }
+
+    /**
+     * 학생 레인이 빌 때까지 대기 작업을 하나씩 꺼내 처리
+     * - process는 예외를 밖으로 던지지 않지만, 그래도 비정상 종료하면 finally에서 레인의 워커 배정을 풀고
+     *   남은 작업이 있으면 새 워커를 배정합니다. 그러지 않으면 scheduled=true인 레인이 남아
+     *   이후 제출이 영영 처리되지 않고 max-pending 자리만 차지합니다.
+     */
+    void drain(Long studentId) {
+        boolean completed = false;
+        try {
+            while (true) {
+                PendingIngest[] taken = new PendingIngest[1];
+                lanes.computeIfPresent(studentId, (id, lane) -> {
+                    taken[0] = lane.next;
+                    lane.next = null;
+                    return taken[0] == null ? null : lane; // 더 처리할 게 없으면 레인 제거
+                });
+                if (taken[0] == null) {
+                    completed = true;
+                    return;
+                }
+                process(studentId, taken[0]);
+            }
+        } finally {
+            if (!completed) {
+                System.err.println("Ingest worker for student " + studentId + " exited abnormally, releasing lane");
+                boolean[] reschedule = new boolean[1];
+                lanes.computeIfPresent(studentId, (id, lane) -> {
+                    if (lane.next == null) return null;
+                    reschedule[0] = true; // scheduled는 그대로 두고 새 워커가 이어받음
+                    return lane;
+                });
+                if (reschedule[0]) schedule(studentId);
+            }
+        }
+    }
+
+    private void schedule(Long studentId) {
+        try {
+            ingestExecutor.execute(() -> drain(studentId));
+        } catch (RuntimeException e) {
+            // 워커를 배정하지 못하면 레인을 비워 다음 제출이 다시 배정하도록 함
+            lanes.computeIfPresent(studentId, (id, lane) -> {
+                lane.scheduled = false;
+                return lane.next == null ? null : lane;
+            });
+            throw e;
+        }
+    }
+
+    /**
+     * 작업 하나 처리 (예외를 던지지 않음)
+     * - 작업 상태(SyncJob) 기록이 실패해도(예: 일시적인 DB 장애) 데이터 반영은 그대로 진행합니다.
+     *   상태 기록은 조회용일 뿐이고, 반영 자체가 실패하면 그 예외는 job의 failed 상태로 남깁니다.
+     */
+    private void process(Long studentId, PendingIngest pendingIngest) {
+        for (String supersededJobId : pendingIngest.superseded) {
+            try {
+                syncJobRepository.findByJobId(supersededJobId).ifPresent(old -> {
+                    old.setStatus("superseded");
+                    old.setError("replaced by " + pendingIngest.jobId);
+                    old.setFinishedAt(Instant.now());
+                    syncJobRepository.save(old);
+                });
+            } catch (Exception e) {
+                System.err.println("Failed to mark job " + supersededJobId + " superseded: " + e.getMessage());
+            }
+        }
+
+        SyncJob job = null;
+        try {
+            job = syncJobRepository.findByJobId(pendingIngest.jobId).orElse(null);
+            if (job == null) {
+                System.err.println("Sync job " + pendingIngest.jobId + " not found, processing payload without status");
+            } else {
+                job.setStatus("running");
+                job.setStartedAt(Instant.now());
+                syncJobRepository.save(job);
+            }
+        } catch (Exception e) {
+            System.err.println("Failed to mark job " + pendingIngest.jobId + " running: " + e.getMessage());
+        }
+
+        String status;
+        String error = null;
+        IngestResult result = null;
+        try {
+            result = clientCrawlService.processPayload(studentId, pendingIngest.data);
+            status = "completed";
+        } catch (Exception e) {
+            status = "failed";
+            error = e.getMessage();
+            System.err.println("Ingest job " + pendingIngest.jobId + " failed: " + error);
+        }
+
+        if (job == null) return;
+        try {
+            if (result != null) {
+                job.setImported(result.getImported());
+                job.setSnapshotVersion(result.getSnapshotVersion());
+            }
+            job.setStatus(status);
+            job.setError(error);
+            job.setFinishedAt(Instant.now());
+            syncJobRepository.save(job);
+        } catch (Exception e) {
+            System.err.println("Failed to record result of job " + pendingIngest.jobId + ": " + e.getMessage());
+        }
+    }
+
+    private static final class Lane {
+        volatile PendingIngest next;
+        boolean scheduled;
+    }
+
+    private static final class PendingIngest {
+        final String jobId;
+        final IngestPayload data;
+        final long enqueuedAt = System.currentTimeMillis();
+        final List<String> superseded = new ArrayList<>();
+
+        PendingIngest(String jobId, IngestPayload data) {
+            this.jobId = jobId;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.inhash.backend.service;
+
+/**
+ * 클라이언트 크롤링 데이터 반영 결과
+ * - added: 새로 저장된 항목 수 (기존 응답의 imported 값)
+ * - updated: 내용(과목명/제목/마감일)이 바뀌어 갱신된 항목 수
+ * - removed: 더 이상 전달되지 않아 삭제된 항목 수
+ * - unchanged: 변경 없이 유지된 항목 수 (완료 여부 보존)
+ * - snapshotUnchanged: 직전 반영분과 콘텐츠 해시가 같아 DB 쓰기를 생략했는지 여부
+ * - snapshotVersion: 반영 후 학생의 스냅샷 버전
+ */
+public class IngestResult {
+
+    private final int added;
+    private final int updated;
+    private final int removed;
+    private final int unchanged;
+    private final boolean snapshotUnchanged;
+    private final long snapshotVersion;
+
+    public IngestResult(int added, int updated, int removed, int unchanged) {
+        this(added, updated, removed, unchanged, false, 0L);
+    }
+
+    private IngestResult(int added, int updated, int removed, int unchanged, boolean snapshotUnchanged,
+                         long snapshotVersion) {
+        this.added = added;
+        this.updated = updated;
+        this.removed = removed;
+        this.unchanged = unchanged;
+        this.snapshotUnchanged = snapshotUnchanged;
+        this.snapshotVersion = snapshotVersion;
+    }
+
+    /**
+     * 직전 스냅샷과 동일해 아무것도 쓰지 않은 경우
+     */
+    public static IngestResult unchangedSnapshot(int itemCount) {
+        return new IngestResult(0, 0, 0, itemCount, true, 0L);
+    }
+
+    /**
+     * 반영 후 스냅샷 버전을 붙인 결과
+     */
+    public IngestResult withSnapshotVersion(long snapshotVersion) {
+        return new IngestResult(added, updated, removed, unchanged, snapshotUnchanged, snapshotVersion);
+    }
+
+    public int getAdded() { return added; }
+    public int getUpdated() { return updated; }
+    public int getRemoved() { return removed; }
+    public int getUnchanged() { return unchanged; }
+    public boolean isSnapshotUnchanged() { return snapshotUnchanged; }
+    public long getSnapshotVersion() { return snapshotVersion; }
+
+    /** 기존 API 호환용: 새로 저장된 항목 수 */
+    public int getImported() { return added; }
+
+    @Override
+    public String toString() {
+        if (snapshotUnchanged) return "unchanged (items=" + unchanged + ", version=" + snapshotVersion + ")";
+        return "added=" + added + ", updated=" + updated + ", removed=" + removed + ", unchanged=" + unchanged
+                + ", version=" + snapshotVersion;
+    }
+}
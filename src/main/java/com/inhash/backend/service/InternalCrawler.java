@@ -179,10 +179,8 @@ public class InternalCrawler {
 
     private static String normalizeDue(String s) {
         if (s == null) return null;
-        s = s.replace('\u00A0', ' ').trim();
-        if (s.matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}")) return s;
-        if (s.matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}")) return s;
-        return s;
+        // 형식 해석은 DueDateParser가 담당하므로 여기서는 공백만 정리
+        return s.replace('\u00A0', ' ').trim();
     }
 
     private static List<Item> parseVodFromCourse(Document doc, CourseRef c) {
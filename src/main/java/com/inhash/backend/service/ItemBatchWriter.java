@@ -0,0 +1,226 @@
+package com.inhash.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.UUID;
+
+/**
+ * assignments / lectures 테이블 전용 JDBC 배치 쓰기
+ * - 엔티티 단위 save/saveAndFlush 대신 청크 단위 batchUpdate로 INSERT/UPDATE/DELETE를 보냅니다.
+ * - MySQL에서는 rewriteBatchedStatements=true 설정으로 한 청크가 다중 행 INSERT 한 문장으로 재작성됩니다.
+ * - ID를 애플리케이션이 지정하므로 Hibernate merge 시 발생하던 사전 SELECT가 없습니다.
+ * - ID는 BINARY(16) 컬럼에 16바이트로 바인딩합니다 (ItemIds.toBytes).
+ * - 호출자의 트랜잭션(JPA 트랜잭션 포함)에 그대로 참여합니다.
+ */
+@Component
+public class ItemBatchWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${inhash.ingest.batch-size:200}")
+    private int batchSize;
+
+    public ItemBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 학생의 현재 항목을 한 번의 조회로 로드 (id -> 저장된 값)
+     */
+    public Map<UUID, NormalizedItem> loadByStudent(NormalizedItem.Kind kind, Long studentId) {
+        Map<UUID, NormalizedItem> result = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, course_name, title, url, due_at FROM " + table(kind) + " WHERE student_id = ?",
+                collectInto(kind, result),
+                studentId);
+        return result;
+    }
+
+    /**
+     * 학생 소유 항목 중 지정한 ID만 로드 (델타 반영용, 청크 단위 IN 조회)
+     */
+    public Map<UUID, NormalizedItem> loadByIds(NormalizedItem.Kind kind, Long studentId, Collection<UUID> ids) {
+        Map<UUID, NormalizedItem> result = new HashMap<>();
+        if (ids.isEmpty()) return result;
+        for (List<UUID> chunk : chunks(new ArrayList<>(ids))) {
+            String sql = "SELECT id, course_name, title, url, due_at FROM " + table(kind)
+                    + " WHERE student_id = ? AND id IN (" + placeholders(chunk.size()) + ")";
+            Object[] args = new Object[chunk.size() + 1];
+            args[0] = studentId;
+            for (int i = 0; i < chunk.size(); i++) args[i + 1] = ItemIds.toBytes(chunk.get(i));
+            jdbcTemplate.query(sql, collectInto(kind, result), args);
+        }
+        return result;
+    }
+
+    private static RowCallbackHandler collectInto(NormalizedItem.Kind kind, Map<UUID, NormalizedItem> result) {
+        Calendar utc = utcCalendar();
+        return rs -> {
+            Timestamp due = rs.getTimestamp("due_at", utc);
+            NormalizedItem item = new NormalizedItem(kind, ItemIds.fromBytes(rs.getBytes("id")),
+                    rs.getString("course_name"), rs.getString("title"), rs.getString("url"),
+                    due != null ? due.toInstant() : null);
+            result.put(item.getId(), item);
+        };
+    }
+
+    /**
+     * 신규 항목 INSERT (completed=false)
+     */
+    public void insert(NormalizedItem.Kind kind, Long studentId, List<NormalizedItem> items) {
+        if (items.isEmpty()) return;
+        Calendar utc = utcCalendar();
+        String sql = "INSERT INTO " + table(kind)
+                + " (id, course_name, student_id, title, url, due_at, completed) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        jdbcTemplate.batchUpdate(sql, items, batchSize, (PreparedStatement ps, NormalizedItem item) -> {
+            ps.setBytes(1, ItemIds.toBytes(item.getId()));
+            ps.setString(2, item.getCourseName());
+            setStudentId(ps, 3, studentId);
+            ps.setString(4, item.getTitle());
+            ps.setString(5, item.getUrl());
+            setDueAt(ps, 6, item.getDueAt(), utc);
+            ps.setBoolean(7, false);
+        });
+    }
+
+    /**
+     * 기존 항목의 과목명/제목/URL/마감일 UPDATE (completed는 건드리지 않음)
+     */
+    public void update(NormalizedItem.Kind kind, List<NormalizedItem> items) {
+        if (items.isEmpty()) return;
+        Calendar utc = utcCalendar();
+        String sql = "UPDATE " + table(kind) + " SET course_name = ?, title = ?, url = ?, due_at = ? WHERE id = ?";
+        jdbcTemplate.batchUpdate(sql, items, batchSize, (PreparedStatement ps, NormalizedItem item) -> {
+            ps.setString(1, item.getCourseName());
+            ps.setString(2, item.getTitle());
+            ps.setString(3, item.getUrl());
+            setDueAt(ps, 4, item.getDueAt(), utc);
+            ps.setBytes(5, ItemIds.toBytes(item.getId()));
+        });
+    }
+
+    /**
+     * ID 목록 삭제 - 청크마다 DELETE ... WHERE id IN (...) 한 문장
+     */
+    public int delete(NormalizedItem.Kind kind, Collection<UUID> ids) {
+        if (ids.isEmpty()) return 0;
+        int deleted = 0;
+        for (List<UUID> chunk : chunks(new ArrayList<>(ids))) {
+            String sql = "DELETE FROM " + table(kind) + " WHERE id IN (" + placeholders(chunk.size()) + ")";
+            deleted += jdbcTemplate.update(sql, idArgs(chunk));
+        }
+        return deleted;
+    }
+
+    /**
+     * 학생의 모든 항목 삭제 - 기본 키 순서로 batch-size 개씩 범위를 나눠 DELETE
+     * - 범위의 마지막 ID를 (student_id, id) 인덱스로 찾은 뒤 그 이하를 한 문장으로 지웁니다.
+     * - 트랜잭션 밖에서 호출하면 범위마다 커밋되므로 항목이 많은 계정도 잠금과 undo 로그가 짧게 유지됩니다.
+     *   (트랜잭션 안에서 부르면 전체가 한 트랜잭션이 되므로 호출 측은 트랜잭션 밖에서 부릅니다)
+     */
+    public int deleteByStudent(NormalizedItem.Kind kind, Long studentId) {
+        String table = table(kind);
+        String boundSql = "SELECT id FROM " + table + " WHERE student_id = ? ORDER BY id LIMIT 1 OFFSET ?";
+        String rangeSql = "DELETE FROM " + table + " WHERE student_id = ? AND id <= ?";
+        int deleted = 0;
+        while (true) {
+            List<byte[]> bound = jdbcTemplate.queryForList(boundSql, byte[].class, studentId, batchSize - 1);
+            if (bound.isEmpty()) {
+                // 남은 항목이 한 범위보다 적음
+                return deleted + jdbcTemplate.update("DELETE FROM " + table + " WHERE student_id = ?", studentId);
+            }
+            deleted += jdbcTemplate.update(rangeSql, studentId, bound.get(0));
+        }
+    }
+
+    /**
+     * 학생 소속 여부와 무관하게 ID 기준으로 upsert (서버 크롤링 경로용)
+     * - 존재하는 ID는 청크 단위 IN 조회로 한 번에 확인한 뒤 INSERT/UPDATE로 나눠 배치 실행
+     */
+    public int upsert(NormalizedItem.Kind kind, Long studentId, List<NormalizedItem> items) {
+        if (items.isEmpty()) return 0;
+        Map<UUID, NormalizedItem> unique = new HashMap<>();
+        for (NormalizedItem item : items) unique.put(item.getId(), item);
+
+        Set<UUID> existingIds = new HashSet<>();
+        for (List<UUID> chunk : chunks(new ArrayList<>(unique.keySet()))) {
+            String sql = "SELECT id FROM " + table(kind) + " WHERE id IN (" + placeholders(chunk.size()) + ")";
+            for (byte[] id : jdbcTemplate.queryForList(sql, byte[].class, idArgs(chunk))) {
+                existingIds.add(ItemIds.fromBytes(id));
+            }
+        }
+
+        List<NormalizedItem> toInsert = new ArrayList<>();
+        List<NormalizedItem> toUpdate = new ArrayList<>();
+        for (NormalizedItem item : unique.values()) {
+            if (existingIds.contains(item.getId())) toUpdate.add(item);
+            else toInsert.add(item);
+        }
+        insert(kind, studentId, toInsert);
+        update(kind, toUpdate);
+        return unique.size();
+    }
+
+    private static Object[] idArgs(List<UUID> ids) {
+        Object[] args = new Object[ids.size()];
+        for (int i = 0; i < args.length; i++) args[i] = ItemIds.toBytes(ids.get(i));
+        return args;
+    }
+
+    private <T> List<List<T>> chunks(List<T> ids) {
+        if (ids.size() <= batchSize) return Collections.singletonList(ids);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += batchSize) {
+            chunks.add(ids.subList(i, Math.min(ids.size(), i + batchSize)));
+        }
+        return chunks;
+    }
+
+    private static String placeholders(int n) {
+        StringBuilder sb = new StringBuilder(n * 2);
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(',');
+            sb.append('?');
+        }
+        return sb.toString();
+    }
+
+    private static String table(NormalizedItem.Kind kind) {
+        return kind == NormalizedItem.Kind.ASSIGNMENT ? "assignments" : "lectures";
+    }
+
+    private static void setStudentId(PreparedStatement ps, int index, Long studentId) throws SQLException {
+        if (studentId == null) ps.setNull(index, Types.BIGINT);
+        else ps.setLong(index, studentId);
+    }
+
+    /**
+     * Instant는 Hibernate(TIMESTAMP_UTC)와 동일하게 UTC 기준 TIMESTAMP로 바인딩
+     */
+    private static void setDueAt(PreparedStatement ps, int index, Instant dueAt, Calendar utc) throws SQLException {
+        if (dueAt == null) ps.setNull(index, Types.TIMESTAMP);
+        else ps.setTimestamp(index, Timestamp.from(dueAt), utc);
+    }
+
+    private static Calendar utcCalendar() {
+        return Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    }
+}
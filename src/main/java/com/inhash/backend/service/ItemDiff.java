@@ -0,0 +1,52 @@
+package com.inhash.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 저장된 항목과 수신 항목의 차이 (추가 / 변경 / 삭제)
+ */
+public final class ItemDiff {
+
+    private final List<NormalizedItem> added;
+    private final List<NormalizedItem> changed;
+    private final List<UUID> removedIds;
+    private final int unchanged;
+
+    private ItemDiff(List<NormalizedItem> added, List<NormalizedItem> changed, List<UUID> removedIds, int unchanged) {
+        this.added = added;
+        this.changed = changed;
+        this.removedIds = removedIds;
+        this.unchanged = unchanged;
+    }
+
+    /**
+     * @param existing 현재 저장된 항목 (id -> 항목)
+     * @param incoming 새 스냅샷 항목 (id -> 항목)
+     */
+    public static ItemDiff compute(Map<UUID, NormalizedItem> existing, Map<UUID, NormalizedItem> incoming) {
+        Map<UUID, NormalizedItem> remaining = new HashMap<>(existing);
+        List<NormalizedItem> added = new ArrayList<>();
+        List<NormalizedItem> changed = new ArrayList<>();
+        int unchanged = 0;
+        for (NormalizedItem item : incoming.values()) {
+            NormalizedItem stored = remaining.remove(item.getId());
+            if (stored == null) {
+                added.add(item);
+            } else if (item.differsFrom(stored)) {
+                changed.add(item);
+            } else {
+                unchanged++;
+            }
+        }
+        return new ItemDiff(added, changed, new ArrayList<>(remaining.keySet()), unchanged);
+    }
+
+    public List<NormalizedItem> getAdded() { return added; }
+    public List<NormalizedItem> getChanged() { return changed; }
+    public List<UUID> getRemovedIds() { return removedIds; }
+    public int getUnchanged() { return unchanged; }
+}
@@ -0,0 +1,106 @@
+package com.inhash.backend.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+
+/**
+ * 정규화된 항목 집합의 정규(canonical) 콘텐츠 해시
+ * - 항목마다 SHA-256을 계산해 2^256 모듈러 합으로 더하므로 항목 순서와 무관합니다.
+ * - 합산 방식이라 델타 반영 시 전체 항목을 다시 읽지 않고 빠진 항목은 빼고 들어온 항목은 더해 갱신할 수 있습니다.
+ * - 완료 여부처럼 서버에서만 바뀌는 값은 포함하지 않습니다.
+ */
+public final class ItemFingerprint {
+
+    private static final int WORDS = 4; // 256비트 = long 4개 (big-endian)
+
+    private ItemFingerprint() {}
+
+    public static String of(Collection<NormalizedItem> items) {
+        long[] acc = new long[WORDS];
+        MessageDigest md = sha256();
+        for (NormalizedItem item : items) {
+            add(acc, itemHash(md, item));
+        }
+        return format(acc);
+    }
+
+    /**
+     * 기존 해시에서 빠진 항목을 빼고 들어온 항목을 더한 해시
+     * - 내용이 바뀐 항목은 이전 값을 removed에, 새 값을 added에 넣습니다.
+     *
+     * @return base가 없으면 null (다음 전체 제출에서 다시 계산)
+     */
+    public static String update(String base, Collection<NormalizedItem> removed, Collection<NormalizedItem> added) {
+        if (base == null || base.length() != WORDS * 16) return null;
+        long[] acc = parse(base);
+        MessageDigest md = sha256();
+        for (NormalizedItem item : removed) {
+            subtract(acc, itemHash(md, item));
+        }
+        for (NormalizedItem item : added) {
+            add(acc, itemHash(md, item));
+        }
+        return format(acc);
+    }
+
+    private static long[] itemHash(MessageDigest md, NormalizedItem item) {
+        String canonical = item.getKind().ordinal() + "\u001f"
+                + item.getId() + "\u001f"
+                + item.getCourseName() + "\u001f"
+                + item.getTitle() + "\u001f"
+                + (item.getDueAt() != null ? item.getDueAt().getEpochSecond() : "-");
+        ByteBuffer digest = ByteBuffer.wrap(md.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        long[] words = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) words[i] = digest.getLong();
+        return words;
+    }
+
+    private static void add(long[] acc, long[] v) {
+        long carry = 0;
+        for (int i = WORDS - 1; i >= 0; i--) {
+            long sum = acc[i] + v[i];
+            long carryOut = Long.compareUnsigned(sum, acc[i]) < 0 ? 1 : 0;
+            long withCarry = sum + carry;
+            if (carry != 0 && withCarry == 0) carryOut = 1;
+            acc[i] = withCarry;
+            carry = carryOut;
+        }
+    }
+
+    private static void subtract(long[] acc, long[] v) {
+        long borrow = 0;
+        for (int i = WORDS - 1; i >= 0; i--) {
+            long diff = acc[i] - v[i];
+            long borrowOut = Long.compareUnsigned(acc[i], v[i]) < 0 ? 1 : 0;
+            long withBorrow = diff - borrow;
+            if (borrow != 0 && diff == 0) borrowOut = 1;
+            acc[i] = withBorrow;
+            borrow = borrowOut;
+        }
+    }
+
+    private static String format(long[] acc) {
+        ByteBuffer buf = ByteBuffer.allocate(WORDS * 8);
+        for (long word : acc) buf.putLong(word);
+        return HexFormat.of().formatHex(buf.array());
+    }
+
+    private static long[] parse(String hex) {
+        ByteBuffer buf = ByteBuffer.wrap(HexFormat.of().parseHex(hex));
+        long[] acc = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) acc[i] = buf.getLong();
+        return acc;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
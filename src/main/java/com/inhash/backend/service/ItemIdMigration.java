@@ -0,0 +1,216 @@
+package com.inhash.backend.service;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.UUID;
+
+/**
+ * assignments / lectures의 문자열 ID(varchar, MD5 hex)를 BINARY(16) ID로 옮기는 1회성 마이그레이션
+ * - 기동 시 id 컬럼 타입을 확인해 아직 문자열이면 실행하고, 이미 BINARY면 아무것도 하지 않습니다.
+ * - 새 ID는 저장된 행의 (학생, 마감, 제목, 과목명)으로 다시 계산합니다 (ItemIds.of).
+ *   새 ID가 겹치는 행은 하나만 남기고, 그중 하나라도 완료 처리되어 있으면 완료 상태를 유지합니다.
+ * - id_bin 컬럼을 채운 뒤 기본 키를 교체하므로, 중간에 중단되어도 다음 기동 때 처음부터 다시 계산합니다.
+ * - 클라이언트가 가진 이전 ID가 델타 제출에 쓰이지 않도록 모든 학생의 스냅샷 버전을 올립니다
+ *   (해당 컬럼이 아직 없는 기존 스키마면 건너뜀).
+ * - ALTER 문은 MySQL 문법 기준입니다.
+ * - 웹 서버가 요청을 받기 전에 끝나야 하므로 ApplicationRunner가 아니라 빈 초기화 단계에서 실행하고,
+ *   EntityManagerFactory가 이 빈에 의존하게 합니다 (JPA 초기화 전, Tomcat 커넥터 시작 전).
+ *   그래서 반영/델타/완료 토글/조회가 반쯤 바뀐 스키마에서 실행되는 일이 없습니다.
+ * - 여러 인스턴스가 동시에 기동해도 한 곳만 실행하도록 MySQL GET_LOCK으로 감싸고,
+ *   잠금을 얻은 뒤 컬럼 타입을 다시 확인합니다. 잠금을 얻지 못하면 기동을 중단합니다.
+ */
+@Component
+public class ItemIdMigration implements InitializingBean {
+
+    private static final String LOCK_NAME = "inhash.item_id_migration";
+
+    private static final String[] TABLES = {"assignments", "lectures"};
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${inhash.migration.binary-item-ids.enabled:true}")
+    private boolean enabled;
+
+    @Value("${inhash.migration.lock-timeout-seconds:600}")
+    private int lockTimeoutSeconds;
+
+    @Value("${inhash.ingest.batch-size:200}")
+    private int batchSize;
+
+    public ItemIdMigration(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        if (!enabled || !pending()) return;
+        try (Connection lockConnection = dataSource.getConnection()) {
+            boolean mysql = lockConnection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+            if (mysql && !acquireLock(lockConnection)) {
+                throw new IllegalStateException("Could not acquire " + LOCK_NAME + " within "
+                        + lockTimeoutSeconds + "s; another instance may still be migrating item ids");
+            }
+            try {
+                migrateAll(); // 잠금을 기다리는 동안 다른 인스턴스가 끝냈으면 아무것도 하지 않음
+            } finally {
+                if (mysql) releaseLock(lockConnection);
+            }
+        }
+    }
+
+    /** 아직 문자열 ID인 테이블이 있는지 */
+    private boolean pending() {
+        for (String table : TABLES) {
+            String type = columnType(table, "id");
+            if (type != null && !type.toUpperCase(Locale.ROOT).contains("BINARY")) return true;
+        }
+        return false;
+    }
+
+    private void migrateAll() {
+        boolean migrated = false;
+        for (String table : TABLES) {
+            String type = columnType(table, "id");
+            if (type == null || type.toUpperCase(Locale.ROOT).contains("BINARY")) continue;
+            migrate(table);
+            migrated = true;
+        }
+        if (migrated) {
+            resetSnapshots();
+        }
+    }
+
+    /**
+     * 모든 학생의 스냅샷 버전을 올리고 콘텐츠 해시를 비움
+     * - ddl-auto보다 먼저 실행되므로 snapshot_version / content_hash 컬럼이 아직 없을 수 있습니다 (기존 스키마).
+     *   없는 컬럼은 건너뛰며, 컬럼이 없던 배포에서는 클라이언트가 받은 버전이나 저장된 해시도 없으므로 할 일이 없습니다.
+     */
+    void resetSnapshots() {
+        List<String> assignments = new ArrayList<>();
+        if (columnType("student_update_status", "snapshot_version") != null) {
+            assignments.add("snapshot_version = COALESCE(snapshot_version, 0) + 1");
+        }
+        if (columnType("student_update_status", "content_hash") != null) {
+            assignments.add("content_hash = NULL");
+        }
+        if (assignments.isEmpty()) return;
+        jdbcTemplate.update("UPDATE student_update_status SET " + String.join(", ", assignments));
+    }
+
+    private void migrate(String table) {
+        long started = System.currentTimeMillis();
+        System.out.println("[ItemIdMigration] migrating " + table + ".id to BINARY(16)");
+
+        if (columnType(table, "id_bin") == null) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN id_bin BINARY(16) NULL");
+        }
+
+        // 1) 새 ID 계산 (겹치면 먼저 읽은 행을 남김)
+        Map<UUID, String> survivors = new HashMap<>();
+        Set<UUID> completedIds = new HashSet<>();
+        List<Object[]> duplicates = new ArrayList<>();
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        jdbcTemplate.query(
+                "SELECT id, title, course_name, student_id, due_at, completed FROM " + table,
+                (RowCallbackHandler) rs -> {
+                    String oldId = rs.getString("id");
+                    long studentId = rs.getLong("student_id");
+                    Long owner = rs.wasNull() ? null : studentId;
+                    Timestamp due = rs.getTimestamp("due_at", utc);
+                    UUID newId = ItemIds.of(rs.getString("title"), rs.getString("course_name"), owner,
+                            due != null ? due.toInstant() : null);
+                    if (survivors.putIfAbsent(newId, oldId) != null) {
+                        duplicates.add(new Object[]{oldId});
+                    }
+                    if (rs.getBoolean("completed")) {
+                        completedIds.add(newId);
+                    }
+                });
+
+        // 2) 남길 행에 새 ID 기록, 겹치는 행 삭제
+        List<Object[]> updates = new ArrayList<>(survivors.size());
+        for (Map.Entry<UUID, String> e : survivors.entrySet()) {
+            updates.add(new Object[]{ItemIds.toBytes(e.getKey()), completedIds.contains(e.getKey()), e.getValue()});
+        }
+        for (int i = 0; i < updates.size(); i += batchSize) {
+            jdbcTemplate.batchUpdate("UPDATE " + table + " SET id_bin = ?, completed = ? WHERE id = ?",
+                    updates.subList(i, Math.min(updates.size(), i + batchSize)));
+        }
+        for (int i = 0; i < duplicates.size(); i += batchSize) {
+            jdbcTemplate.batchUpdate("DELETE FROM " + table + " WHERE id = ?",
+                    duplicates.subList(i, Math.min(duplicates.size(), i + batchSize)));
+        }
+
+        // 3) 기본 키 교체
+        jdbcTemplate.execute("ALTER TABLE " + table + " DROP PRIMARY KEY, DROP COLUMN id, "
+                + "CHANGE COLUMN id_bin id BINARY(16) NOT NULL, ADD PRIMARY KEY (id)");
+
+        System.out.println("[ItemIdMigration] " + table + ": rows=" + survivors.size()
+                + ", merged duplicates=" + duplicates.size()
+                + " (" + (System.currentTimeMillis() - started) + "ms)");
+    }
+
+    private boolean acquireLock(Connection con) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.setInt(2, lockTimeoutSeconds);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void releaseLock(Connection con) {
+        try (PreparedStatement ps = con.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.execute();
+        } catch (SQLException e) {
+            // 연결이 닫히면 잠금도 풀림
+            System.err.println("[ItemIdMigration] failed to release lock: " + e.getMessage());
+        }
+    }
+
+    /** 컬럼 타입 이름, 컬럼이 없으면 null */
+    private String columnType(String table, String column) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) con -> {
+            DatabaseMetaData md = con.getMetaData();
+            try (ResultSet rs = md.getColumns(con.getCatalog(), null, table, column)) {
+                return rs.next() ? rs.getString("TYPE_NAME") : null;
+            }
+        });
+    }
+
+    /**
+     * EntityManagerFactory(JPA 초기화, ddl-auto)가 마이그레이션 뒤에 만들어지도록 의존 관계 추가
+     */
+    @Component
+    static class EntityManagerFactoryDependsOnMigration extends EntityManagerFactoryDependsOnPostProcessor {
+        EntityManagerFactoryDependsOnMigration() {
+            super(ItemIdMigration.class);
+        }
+    }
+}
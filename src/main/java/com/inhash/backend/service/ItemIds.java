@@ -0,0 +1,176 @@
+package com.inhash.backend.service;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 과제/수업 항목 ID (128비트, DB에는 BINARY(16)으로 저장)
+ * - (학생 ID, 마감 시각, 제목, 과목명)을 MurmurHash3 x64_128로 해시합니다.
+ * - 문자열을 바이트 배열로 인코딩하지 않고 UTF-16 문자 단위로 바로 해시하며,
+ *   해시 상태는 스레드별로 재사용하므로 호출마다 생기는 객체는 결과 UUID뿐입니다.
+ * - 입력이 모두 DB 행에 남아 있는 값이므로 저장된 행만으로 ID를 다시 계산할 수 있습니다 (ItemIdMigration).
+ */
+public final class ItemIds {
+
+    private static final ThreadLocal<Murmur3> HASHER = ThreadLocal.withInitial(Murmur3::new);
+
+    private ItemIds() {}
+
+    public static UUID of(String title, String courseName, Long studentId, Instant dueAt) {
+        Murmur3 h = HASHER.get();
+        h.reset();
+        h.putLong(studentId != null ? studentId : Long.MIN_VALUE);
+        h.putLong(dueAt != null ? dueAt.getEpochSecond() : Long.MIN_VALUE);
+        h.putString(title);
+        h.putString(courseName);
+        return h.finish();
+    }
+
+    /**
+     * API로 받은 ID 문자열 파싱 ("8-4-4-4-12" 형식 또는 하이픈 없는 32자리 16진수)
+     *
+     * @return 형식이 맞지 않으면 null
+     */
+    public static UUID parse(String value) {
+        if (value == null) return null;
+        String s = value.trim();
+        try {
+            if (s.length() == 36) {
+                return UUID.fromString(s);
+            }
+            if (s.length() == 32) {
+                // parseUnsignedLong은 '+' 부호와 ASCII가 아닌 숫자도 받으므로 16진수 문자만 허용
+                for (int i = 0; i < 32; i++) {
+                    if (!isHexDigit(s.charAt(i))) return null;
+                }
+                return new UUID(Long.parseUnsignedLong(s.substring(0, 16), 16),
+                        Long.parseUnsignedLong(s.substring(16), 16));
+            }
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return null;
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    /** Hibernate의 UUID-BINARY 매핑과 같은 순서 (상위 64비트, 하위 64비트 big-endian) */
+    public static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+        return new UUID(buf.getLong(), buf.getLong());
+    }
+
+    /**
+     * MurmurHash3 x64_128 스트리밍 구현
+     * - 입력을 16비트 단위(UTF-16LE 바이트열과 동일)로 받아 16바이트 블록마다 섞습니다.
+     */
+    private static final class Murmur3 {
+        private static final long C1 = 0x87c37b91114253d5L;
+        private static final long C2 = 0x4cf5ad432745937fL;
+
+        private long h1, h2;
+        private long k1, k2;   // 현재 블록에 쌓인 값 (little-endian)
+        private int units;     // 현재 블록에 쌓인 16비트 단위 수 (0..7)
+        private long length;   // 전체 바이트 수
+
+        void reset() {
+            h1 = h2 = 0;
+            k1 = k2 = 0;
+            units = 0;
+            length = 0;
+        }
+
+        void putString(String s) {
+            if (s == null) {
+                putInt(-1);
+                return;
+            }
+            int n = s.length();
+            putInt(n);
+            for (int i = 0; i < n; i++) putChar(s.charAt(i));
+        }
+
+        void putInt(int v) {
+            putChar((char) v);
+            putChar((char) (v >>> 16));
+        }
+
+        void putLong(long v) {
+            putChar((char) v);
+            putChar((char) (v >>> 16));
+            putChar((char) (v >>> 32));
+            putChar((char) (v >>> 48));
+        }
+
+        void putChar(char c) {
+            long v = c & 0xffffL;
+            if (units < 4) k1 |= v << (16 * units);
+            else k2 |= v << (16 * (units - 4));
+            length += 2;
+            if (++units == 8) {
+                mixBlock();
+                k1 = k2 = 0;
+                units = 0;
+            }
+        }
+
+        private void mixBlock() {
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        UUID finish() {
+            if (units > 0) {
+                if (units > 4) h2 ^= mixK2(k2);
+                h1 ^= mixK1(k1);
+            }
+            h1 ^= length;
+            h2 ^= length;
+            h1 += h2;
+            h2 += h1;
+            h1 = fmix64(h1);
+            h2 = fmix64(h2);
+            h1 += h2;
+            h2 += h1;
+            return new UUID(h1, h2);
+        }
+
+        private static long mixK1(long k) {
+            k *= C1;
+            k = Long.rotateLeft(k, 31);
+            return k * C2;
+        }
+
+        private static long mixK2(long k) {
+            k *= C2;
+            k = Long.rotateLeft(k, 33);
+            return k * C1;
+        }
+
+        private static long fmix64(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+}
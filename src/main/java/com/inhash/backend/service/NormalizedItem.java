@@ -0,0 +1,50 @@
+package com.inhash.backend.service;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 정규화가 끝난 크롤링 항목 (과제 또는 수업)
+ * - 과목명 정리, 마감일 파싱, ID 생성이 모두 끝난 상태로 DB 반영 단계에 전달됩니다.
+ */
+public final class NormalizedItem {
+
+    public enum Kind { ASSIGNMENT, LECTURE }
+
+    private final Kind kind;
+    private final UUID id;
+    private final String courseName;
+    private final String title;
+    private final String url;
+    private final Instant dueAt;
+
+    public NormalizedItem(Kind kind, UUID id, String courseName, String title, Instant dueAt) {
+        this(kind, id, courseName, title, null, dueAt);
+    }
+
+    public NormalizedItem(Kind kind, UUID id, String courseName, String title, String url, Instant dueAt) {
+        this.kind = kind;
+        this.id = id;
+        this.courseName = courseName;
+        this.title = title;
+        this.url = url;
+        this.dueAt = dueAt;
+    }
+
+    public Kind getKind() { return kind; }
+    public UUID getId() { return id; }
+    public String getCourseName() { return courseName; }
+    public String getTitle() { return title; }
+    public String getUrl() { return url; }
+    public Instant getDueAt() { return dueAt; }
+
+    /**
+     * 저장된 항목과 비교해 내용(과목명/제목/마감일)이 달라졌는지 확인
+     */
+    public boolean differsFrom(NormalizedItem stored) {
+        return !Objects.equals(courseName, stored.courseName)
+                || !Objects.equals(title, stored.title)
+                || !Objects.equals(dueAt, stored.dueAt);
+    }
+}
@@ -1,15 +1,9 @@
 package com.inhash.backend.service;
 
-import com.inhash.backend.domain.FcmToken;
 import com.inhash.backend.domain.StudentUpdateStatus;
-import com.inhash.backend.domain.Student;
-import com.inhash.backend.domain.Assignment;
-import com.inhash.backend.domain.Lecture;
 import com.inhash.backend.repository.FcmTokenRepository;
+import com.inhash.backend.repository.StudentTokenView;
 import com.inhash.backend.repository.StudentUpdateStatusRepository;
-import com.inhash.backend.repository.StudentRepository;
-import com.inhash.backend.repository.AssignmentRepository;
-import com.inhash.backend.repository.LectureRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,8 +11,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * FCM 푸시 알림 서비스
@@ -30,9 +26,7 @@ public class NotificationService {
     
     private final StudentUpdateStatusRepository updateStatusRepository;
     private final FcmTokenRepository fcmTokenRepository;
-    private final StudentRepository studentRepository;
-    private final AssignmentRepository assignmentRepository;
-    private final LectureRepository lectureRepository;
+    private final DeadlineItemReader itemReader;
     
     @Value("${inhash.notification.update-reminder.days:2,4,7}")
     private String updateReminderDays;
@@ -40,14 +34,10 @@ public class NotificationService {
     public NotificationService(
             StudentUpdateStatusRepository updateStatusRepository,
             FcmTokenRepository fcmTokenRepository,
-            StudentRepository studentRepository,
-            AssignmentRepository assignmentRepository,
-            LectureRepository lectureRepository) {
+            DeadlineItemReader itemReader) {
         this.updateStatusRepository = updateStatusRepository;
         this.fcmTokenRepository = fcmTokenRepository;
-        this.studentRepository = studentRepository;
-        this.assignmentRepository = assignmentRepository;
-        this.lectureRepository = lectureRepository;
+        this.itemReader = itemReader;
     }
     
     /**
@@ -72,10 +62,10 @@ public class NotificationService {
                 String message = getUpdateReminderMessage(day, status.getNotificationCount());
                 
                 // FCM 토큰 조회
-                List<FcmToken> tokens = fcmTokenRepository.findByStudentId(status.getStudent().getId());
+                List<String> tokens = fcmTokenRepository.findTokensByStudentId(status.getStudent().getId());
                 
-                for (FcmToken token : tokens) {
-                    sendFcmNotification(token.getToken(), "INHASH 업데이트 필요", message);
+                for (String token : tokens) {
+                    sendFcmNotification(token, "INHASH 업데이트 필요", message);
                 }
                 
                 // 알림 발송 기록 업데이트
@@ -93,37 +83,31 @@ public class NotificationService {
         Instant now = Instant.now();
         Instant tomorrow = now.plus(1, ChronoUnit.DAYS);
         
-        // 모든 학생 조회
-        List<Student> students = studentRepository.findAll();
+        // FCM 토큰이 있는 학생만 (학생 ID와 토큰 두 컬럼만 한 번에 조회, 학생 행은 읽지 않음)
+        Map<Long, List<String>> tokensByStudent = new LinkedHashMap<>();
+        for (StudentTokenView view : fcmTokenRepository.findAllTokenViews()) {
+            tokensByStudent.computeIfAbsent(view.getStudentId(), id -> new ArrayList<>()).add(view.getToken());
+        }
         
-        for (Student student : students) {
-            // 학생의 FCM 토큰 조회
-            List<FcmToken> tokens = fcmTokenRepository.findByStudent(student);
-            if (tokens.isEmpty()) continue;
-            
-            // 오늘/내일 마감인 미완료 과제 조회
-            List<Assignment> assignments = assignmentRepository.findByStudent(student).stream()
-                .filter(a -> a.getDueAt() != null)
-                .filter(a -> !Boolean.TRUE.equals(a.getCompleted())) // 완료되지 않은 것만
-                .filter(a -> a.getDueAt().isAfter(now) && a.getDueAt().isBefore(tomorrow))
-                .collect(Collectors.toList());
+        for (Map.Entry<Long, List<String>> entry : tokensByStudent.entrySet()) {
+            Long studentId = entry.getKey();
+            List<String> tokens = entry.getValue();
             
-            // 오늘/내일 마감인 미완료 수업 조회
-            List<Lecture> lectures = lectureRepository.findByStudent(student).stream()
-                .filter(l -> l.getDueAt() != null)
-                .filter(l -> !Boolean.TRUE.equals(l.getCompleted())) // 완료되지 않은 것만
-                .filter(l -> l.getDueAt().isAfter(now) && l.getDueAt().isBefore(tomorrow))
-                .collect(Collectors.toList());
+            // 24시간 안에 마감인 미완료 과제/수업 수 (두 테이블을 한 문장으로 인덱스 범위 COUNT, 항목은 읽지 않음)
+            Map<NormalizedItem.Kind, Long> counts = itemReader.count(studentId,
+                    DeadlineItemReader.Filter.dueBetween(now, tomorrow).completed(false));
+            long assignments = counts.getOrDefault(NormalizedItem.Kind.ASSIGNMENT, 0L);
+            long lectures = counts.getOrDefault(NormalizedItem.Kind.LECTURE, 0L);
             
             // 알림 메시지 생성
-            if (!assignments.isEmpty() || !lectures.isEmpty()) {
+            if (assignments > 0 || lectures > 0) {
                 String title = "📚 오늘의 할 일";
                 String body = String.format("미완료 과제 %d개, 미완료 수업 %d개가 있습니다.", 
-                    assignments.size(), lectures.size());
+                    assignments, lectures);
                 
                 // 각 토큰으로 알림 발송
-                for (FcmToken token : tokens) {
-                    sendFcmNotification(token.getToken(), title, body);
+                for (String token : tokens) {
+                    sendFcmNotification(token, title, body);
                 }
             }
         }
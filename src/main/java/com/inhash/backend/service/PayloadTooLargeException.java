@@ -0,0 +1,10 @@
+package com.inhash.backend.service;
+
+/**
+ * 제출 데이터가 허용 크기(바이트 수 또는 항목 수)를 넘을 때 발생
+ */
+public class PayloadTooLargeException extends RuntimeException {
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+}
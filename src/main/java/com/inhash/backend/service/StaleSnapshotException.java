@@ -0,0 +1,16 @@
+package com.inhash.backend.service;
+
+/**
+ * 델타 제출의 기준 버전이 서버의 현재 스냅샷 버전과 다를 때 발생
+ */
+public class StaleSnapshotException extends RuntimeException {
+
+    private final long currentVersion;
+
+    public StaleSnapshotException(long baseVersion, long currentVersion) {
+        super("Stale base version " + baseVersion + " (current " + currentVersion + ")");
+        this.currentVersion = currentVersion;
+    }
+
+    public long getCurrentVersion() { return currentVersion; }
+}
@@ -0,0 +1,193 @@
+package com.inhash.backend.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 학생별 반영 작업 직렬화 (스트라이프 잠금)
+ * - 같은 학생의 제출/델타/삭제는 도착 순서대로 하나씩 실행되고, 다른 학생끼리는 서로 막지 않습니다.
+ *   학생 ID를 고정 개수의 공정(fair) 잠금 중 하나에 대응시키므로 학생 수와 무관하게 메모리가 일정합니다.
+ *   스트라이프가 겹치는 서로 다른 학생은 드물게 서로를 기다릴 수 있습니다.
+ * - mode=database 이면 프로세스 내 잠금 뒤에 MySQL GET_LOCK('inhash:ingest:{학생ID}')도 잡아
+ *   여러 서버 인스턴스 사이에서도 직렬화합니다. 이름 잠금은 세션 단위라 작업 동안 커넥션 하나를 점유하는데,
+ *   작업의 트랜잭션도 메인 풀에서 커넥션을 빌리므로 같은 풀을 쓰면 잠금 커넥션이 풀을 다 차지한 채
+ *   트랜잭션 커넥션을 기다리며 멈출 수 있습니다. 그래서 잠금 커넥션은 같은 DB 설정으로 만든 별도의 작은 풀
+ *   (inhash.ingest.lock.pool-size)에서만 빌립니다. 이 크기가 인스턴스당 동시 반영 수 상한이 되므로
+ *   메인 풀(spring.datasource.hikari.maximum-pool-size)보다 작게 둡니다.
+ * - 잠금은 트랜잭션 바깥에서 잡고 커밋 이후에 풀어야 하므로, 호출 측은 이 안에서 트랜잭션을 시작합니다.
+ * - 메트릭: inhash.ingest.lock.wait(대기 시간), inhash.ingest.lock.contended(대기가 필요했던 횟수),
+ *   inhash.ingest.lock.timeouts, inhash.ingest.lock.waiting(현재 대기 중인 작업 수)
+ */
+@Component
+public class StudentIngestLock implements DisposableBean {
+
+    private final ReentrantLock[] stripes;
+    private final boolean databaseMode;
+    private final long timeoutSeconds;
+    private final HikariDataSource lockDataSource;
+    private final Timer waitTimer;
+    private final Counter contended;
+    private final Counter timeouts;
+
+    public StudentIngestLock(@Value("${inhash.ingest.lock.stripes:64}") int stripeCount,
+                             @Value("${inhash.ingest.lock.mode:local}") String mode,
+                             @Value("${inhash.ingest.lock.timeout-seconds:30}") long timeoutSeconds,
+                             @Value("${inhash.ingest.lock.pool-size:4}") int poolSize,
+                             DataSourceProperties dataSourceProperties,
+                             MeterRegistry meterRegistry) {
+        // 2의 거듭제곱으로 올림 (인덱스 계산을 비트 연산으로)
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock(true);
+        }
+        this.databaseMode = "database".equals(mode.trim().toLowerCase(Locale.ROOT));
+        this.timeoutSeconds = timeoutSeconds;
+        this.lockDataSource = databaseMode ? lockPool(dataSourceProperties, poolSize, timeoutSeconds) : null;
+
+        String modeTag = databaseMode ? "database" : "local";
+        this.waitTimer = Timer.builder("inhash.ingest.lock.wait")
+                .description("학생별 반영 잠금 대기 시간")
+                .tag("mode", modeTag)
+                .register(meterRegistry);
+        this.contended = Counter.builder("inhash.ingest.lock.contended")
+                .description("다른 작업이 잠금을 쥐고 있어 기다려야 했던 횟수")
+                .tag("mode", modeTag)
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("inhash.ingest.lock.timeouts")
+                .description("잠금 대기 제한 시간 초과 횟수")
+                .tag("mode", modeTag)
+                .register(meterRegistry);
+        Gauge.builder("inhash.ingest.lock.waiting", this, StudentIngestLock::waiting)
+                .description("학생별 반영 잠금을 기다리는 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 학생 잠금을 잡은 상태로 작업 실행
+     *
+     * @throws IngestLockTimeoutException 제한 시간 안에 잠금을 얻지 못한 경우
+     */
+    public <T> T withLock(Long studentId, Supplier<T> action) {
+        ReentrantLock lock = stripes[index(studentId)];
+        long started = System.nanoTime();
+        acquireLocal(lock, studentId);
+        try {
+            if (!databaseMode) {
+                waitTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                return action.get();
+            }
+            long remainingNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds) - (System.nanoTime() - started);
+            try (Connection con = lockDataSource.getConnection()) {
+                String name = "inhash:ingest:" + studentId;
+                acquireDatabase(con, name, Math.max(0, TimeUnit.NANOSECONDS.toSeconds(remainingNanos)));
+                waitTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                try {
+                    return action.get();
+                } finally {
+                    releaseDatabase(con, name);
+                }
+            } catch (SQLTransientConnectionException e) {
+                // 잠금 풀이 제한 시간 동안 비지 않음 (이 인스턴스의 동시 반영 수가 pool-size에 도달)
+                timeouts.increment();
+                throw new IngestLockTimeoutException("Timed out waiting for ingest lock connection of student " + studentId);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Failed to acquire ingest lock for student " + studentId, e);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (lockDataSource != null) {
+            lockDataSource.close();
+        }
+    }
+
+    /** 현재 잠금을 기다리는 작업 수 */
+    public int waiting() {
+        int waiting = 0;
+        for (ReentrantLock lock : stripes) {
+            waiting += lock.getQueueLength();
+        }
+        return waiting;
+    }
+
+    /**
+     * 잠금 전용 커넥션 풀 (메인 풀과 같은 접속 설정, 잠금 세션만 유지하므로 작게)
+     */
+    private static HikariDataSource lockPool(DataSourceProperties properties, int poolSize, long timeoutSeconds) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName("inhash-ingest-lock");
+        pool.setMaximumPoolSize(Math.max(1, poolSize));
+        pool.setMinimumIdle(0);
+        pool.setConnectionTimeout(Math.max(250L, TimeUnit.SECONDS.toMillis(timeoutSeconds)));
+        return pool;
+    }
+
+    private void acquireLocal(ReentrantLock lock, Long studentId) {
+        if (lock.tryLock()) return;
+        contended.increment();
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IngestLockTimeoutException("Interrupted while waiting for ingest lock of student " + studentId);
+        }
+        if (!acquired) {
+            timeouts.increment();
+            throw new IngestLockTimeoutException("Timed out waiting for ingest lock of student " + studentId);
+        }
+    }
+
+    private void acquireDatabase(Connection con, String name, long timeout) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            ps.setString(1, name);
+            ps.setLong(2, timeout);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next() && rs.getInt(1) == 1) return;
+            }
+        }
+        // 0: 제한 시간 초과 (다른 인스턴스가 같은 학생을 처리 중), NULL: 오류
+        timeouts.increment();
+        throw new IngestLockTimeoutException("Timed out waiting for database ingest lock " + name);
+    }
+
+    private static void releaseDatabase(Connection con, String name) {
+        try (PreparedStatement ps = con.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, name);
+            ps.executeQuery().close();
+        } catch (SQLException e) {
+            // 커넥션이 닫히면 서버가 잠금을 풀어주므로 기록만 남김
+            System.err.println("Failed to release ingest lock " + name + ": " + e.getMessage());
+        }
+    }
+
+    private int index(Long studentId) {
+        long h = studentId != null ? studentId : 0L;
+        h ^= (h >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        return (int) h & (stripes.length - 1);
+    }
+}
@@ -1,9 +1,8 @@
 package com.inhash.backend.controller;
 
-import com.inhash.backend.domain.Assignment;
-import com.inhash.backend.domain.Lecture;
 import com.inhash.backend.repository.AssignmentRepository;
 import com.inhash.backend.repository.CourseRepository;
+import com.inhash.backend.repository.DeadlineItemView;
 import com.inhash.backend.repository.LectureRepository;
 import com.inhash.backend.repository.SyncLogRepository;
 import com.inhash.backend.repository.SyncJobRepository;
@@ -44,8 +43,9 @@ public class ApiControllers {
 
     @GetMapping("/schedules")
     public Map<String, Object> schedules(@RequestParam(name = "studentId", required = false) Long studentId) {
-        List<Assignment> assignments = (studentId == null) ? assignmentRepository.findAll() : assignmentRepository.findByStudentId(studentId);
-        List<Lecture> lectures = (studentId == null) ? lectureRepository.findAll() : lectureRepository.findByStudentId(studentId);
+        // 응답에 필요한 컬럼만 조회 (학생 행은 읽지 않음)
+        List<DeadlineItemView> assignments = (studentId == null) ? assignmentRepository.findAllViews() : assignmentRepository.findViewsByStudentId(studentId);
+        List<DeadlineItemView> lectures = (studentId == null) ? lectureRepository.findAllViews() : lectureRepository.findViewsByStudentId(studentId);
         Map<String, Object> m = new HashMap<>();
         m.put("assignments", assignments);
         m.put("lectures", lectures);
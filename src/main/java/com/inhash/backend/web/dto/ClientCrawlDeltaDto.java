@@ -0,0 +1,35 @@
+package com.inhash.backend.web.dto;
+
+import java.util.List;
+
+/**
+ * 클라이언트 델타 제출 DTO
+ * 마지막으로 받은 스냅샷 버전(baseVersion) 이후 추가된 항목과 사라진 항목 ID만 전송
+ */
+public class ClientCrawlDeltaDto {
+    
+    private Long baseVersion;
+    private String clientVersion;
+    private String clientPlatform; // iOS, Android, Web
+    private String crawledAt; // ISO 8601 format
+    private List<ClientCrawlDataDto.ItemDto> added; // 새로 생기거나 바뀐 항목 (전체 제출과 같은 형식)
+    private List<String> removed; // 사라진 항목 ID (마감일 조회 API의 id 값)
+    
+    public Long getBaseVersion() { return baseVersion; }
+    public void setBaseVersion(Long baseVersion) { this.baseVersion = baseVersion; }
+    
+    public String getClientVersion() { return clientVersion; }
+    public void setClientVersion(String clientVersion) { this.clientVersion = clientVersion; }
+    
+    public String getClientPlatform() { return clientPlatform; }
+    public void setClientPlatform(String clientPlatform) { this.clientPlatform = clientPlatform; }
+    
+    public String getCrawledAt() { return crawledAt; }
+    public void setCrawledAt(String crawledAt) { this.crawledAt = crawledAt; }
+    
+    public List<ClientCrawlDataDto.ItemDto> getAdded() { return added; }
+    public void setAdded(List<ClientCrawlDataDto.ItemDto> added) { this.added = added; }
+    
+    public List<String> getRemoved() { return removed; }
+    public void setRemoved(List<String> removed) { this.removed = removed; }
+}
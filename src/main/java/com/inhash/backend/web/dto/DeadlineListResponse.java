@@ -0,0 +1,37 @@
+package com.inhash.backend.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 마감 기한 조회 응답 (/api/deadlines/{studentId}, /all, /today)
+ * 항목마다 Map을 만들지 않도록 불변 레코드로 표현하며, JSON 필드 이름과 null 표기는 기존 응답과 같습니다.
+ */
+public record DeadlineListResponse(boolean success, List<AssignmentItem> assignments, List<LectureItem> lectures) {
+
+    /**
+     * 과제 항목 (dueDate는 캘린더용으로 dueAt과 같은 값)
+     */
+    @JsonPropertyOrder({"id", "title", "courseName", "url", "completed", "type", "dueAt", "dueDate", "remainingDays"})
+    public record AssignmentItem(UUID id, String title, String courseName, String url, boolean completed,
+                                 String type, String dueAt, String dueDate, Long remainingDays) {
+        public AssignmentItem(UUID id, String title, String courseName, String url, boolean completed,
+                              String dueAt, Long remainingDays) {
+            this(id, title, courseName, url, completed, "assignment", dueAt, dueAt, remainingDays);
+        }
+    }
+
+    /**
+     * 수업 항목 (lectureDate는 캘린더용으로 dueAt과 같은 값)
+     */
+    @JsonPropertyOrder({"id", "title", "courseName", "url", "completed", "type", "dueAt", "lectureDate", "remainingDays"})
+    public record LectureItem(UUID id, String title, String courseName, String url, boolean completed,
+                              String type, String dueAt, String lectureDate, Long remainingDays) {
+        public LectureItem(UUID id, String title, String courseName, String url, boolean completed,
+                           String dueAt, Long remainingDays) {
+            this(id, title, courseName, url, completed, "lecture", dueAt, dueAt, remainingDays);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.inhash.backend.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 캘린더 기간 조회 응답 (/api/deadlines/{studentId}/range)
+ * - mode=items: KST 날짜별 항목 (days[].assignments/lectures), 다음 페이지가 있으면 nextCursor
+ * - mode=counts: KST 날짜별 개수만 (days[].counts)
+ * 항목이 없는 날짜는 포함하지 않으며, 한 날짜가 두 페이지에 걸칠 수 있으므로 클라이언트는 같은 date를 이어 붙입니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DeadlineRangeResponse(boolean success, String from, String to, String mode,
+                                    List<Day> days, String nextCursor) {
+
+    /**
+     * 하루 (항목 모드에서는 assignments/lectures, 개수 모드에서는 counts만 채워짐)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Day(String date,
+                      List<DeadlineListResponse.AssignmentItem> assignments,
+                      List<DeadlineListResponse.LectureItem> lectures,
+                      Counts counts) {
+    }
+
+    /**
+     * 하루의 과제/수업/미완료 개수
+     */
+    public record Counts(long assignments, long lectures, long incomplete) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.inhash.backend.controller;
+
+import com.inhash.backend.service.ClientCrawlService;
+import com.inhash.backend.service.CrawlPayloadReader;
+import com.inhash.backend.service.IdempotencyService;
+import com.inhash.backend.service.IngestAdmissionControl;
+import com.inhash.backend.service.IngestBatchService;
+import com.inhash.backend.service.IngestQueueService;
+import com.inhash.backend.service.StaleSnapshotException;
+import com.inhash.backend.web.dto.ClientCrawlDeltaDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 기준 버전이 오래된 델타 제출이 409와 현재 버전으로 응답되는지 확인
+ */
+class ClientCrawlControllerTest {
+
+    @Test
+    void staleDeltaReturnsConflictWithCurrentVersion() {
+        ClientCrawlService clientCrawlService = mock(ClientCrawlService.class);
+        IdempotencyService idempotencyService = mock(IdempotencyService.class);
+        when(idempotencyService.execute(anyString(), isNull(), any()))
+                .thenAnswer(inv -> ((Supplier<?>) inv.getArgument(2)).get());
+        IngestAdmissionControl admissionControl = new IngestAdmissionControl(
+                true, 6, 3, 32, "windows", 20, new SimpleMeterRegistry());
+        ClientCrawlController controller = new ClientCrawlController(clientCrawlService,
+                mock(IngestQueueService.class), mock(CrawlPayloadReader.class), mock(IngestBatchService.class),
+                idempotencyService, admissionControl);
+
+        ClientCrawlDeltaDto delta = new ClientCrawlDeltaDto();
+        delta.setBaseVersion(4L);
+        when(clientCrawlService.processDelta(eq(7L), any(ClientCrawlDeltaDto.class)))
+                .thenThrow(new StaleSnapshotException(4L, 5L));
+
+        ResponseEntity<Map<String, Object>> response =
+                controller.submitDelta(7L, null, delta, new MockHttpServletRequest());
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(false, response.getBody().get("success"));
+        assertEquals(5L, response.getBody().get("currentVersion"));
+    }
+}
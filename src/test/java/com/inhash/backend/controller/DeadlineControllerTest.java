@@ -0,0 +1,126 @@
+package com.inhash.backend.controller;
+
+import com.inhash.backend.service.DeadlineItem;
+import com.inhash.backend.service.NormalizedItem;
+import com.inhash.backend.web.dto.DeadlineListResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ETag에 들어가는 "다음 변경 시각"(DeadlineController.nextChange) 확인
+ * - 그 시각 전까지는 본문이 같고, 그 시각에는 본문이 달라져야 합니다.
+ */
+class DeadlineControllerTest {
+
+    private static final long DAY = 86400L;
+    private static final Instant NOW = Instant.ofEpochSecond(1_741_618_800L);
+
+    @Test
+    void remainingDaysDropsOneSecondAfterWholeDayBoundary() {
+        DeadlineItem item = item(NOW.plusSeconds(2 * DAY + 100));
+        long next = DeadlineController.nextChange(List.of(item), NOW, false);
+
+        // due - k*86400 + 1 (k = 현재 남은 일수)
+        assertEquals(NOW.getEpochSecond() + 101, next);
+        assertEquals(2L, remainingDays(item, Instant.ofEpochSecond(next - 1)));
+        assertEquals(1L, remainingDays(item, Instant.ofEpochSecond(next)));
+    }
+
+    @Test
+    void exactWholeDaysChangeOnNextSecond() {
+        DeadlineItem item = item(NOW.plusSeconds(DAY));
+        assertEquals(1L, remainingDays(item, NOW));
+        assertEquals(NOW.getEpochSecond() + 1, DeadlineController.nextChange(List.of(item), NOW, false));
+    }
+
+    @Test
+    void itemDueWithinADayOnlyChangesWhenItDrops() {
+        DeadlineItem item = item(NOW.plusSeconds(3600));
+        assertEquals(Long.MAX_VALUE, DeadlineController.nextChange(List.of(item), NOW, false));
+        assertEquals(NOW.getEpochSecond() + 3600, DeadlineController.nextChange(List.of(item), NOW, true));
+    }
+
+    @Test
+    void dropsWhenDueRoundsNanosecondDueTimesUp() {
+        Instant due = NOW.plusSeconds(3600).plusNanos(500_000_000L);
+        DeadlineItem item = item(due);
+        long next = DeadlineController.nextChange(List.of(item), NOW, true);
+
+        // 초 단위 기준 시각으로는 마감 초에도 아직 열려 있고, 그다음 초에 빠짐
+        assertEquals(due.getEpochSecond() + 1, next);
+        assertTrue(item.isOpenAt(Instant.ofEpochSecond(next - 1)));
+        assertFalse(item.isOpenAt(Instant.ofEpochSecond(next)));
+    }
+
+    @Test
+    void pastDueItemsDoNotChange() {
+        DeadlineItem item = item(NOW.minusSeconds(10));
+        assertEquals(Long.MAX_VALUE, DeadlineController.nextChange(List.of(item), NOW, true));
+        assertEquals(Long.MAX_VALUE, DeadlineController.nextChange(List.of(item), NOW, false));
+    }
+
+    @Test
+    void itemsWithoutDueDateAreIgnored() {
+        DeadlineItem undated = item(null);
+        assertEquals(Long.MAX_VALUE, DeadlineController.nextChange(List.of(undated), NOW, true));
+        assertEquals(Long.MAX_VALUE, DeadlineController.nextChange(List.of(), NOW, true));
+        DeadlineItem dated = item(NOW.plusSeconds(DAY + 5));
+        assertEquals(NOW.getEpochSecond() + 6, DeadlineController.nextChange(List.of(undated, dated), NOW, false));
+    }
+
+    @Test
+    void bodyIsStableUntilNextChangeAndDiffersAtIt() {
+        Random random = new Random(19L);
+        for (int round = 0; round < 2_000; round++) {
+            List<DeadlineItem> items = new ArrayList<>();
+            int count = 1 + random.nextInt(5);
+            for (int i = 0; i < count; i++) {
+                if (random.nextInt(6) == 0) {
+                    items.add(item(null));
+                } else {
+                    long offset = random.nextInt((int) (5 * DAY)) - DAY;
+                    long nanos = random.nextBoolean() ? 0 : 1 + random.nextInt(999_999_999);
+                    items.add(item(NOW.plusSeconds(offset).plusNanos(nanos)));
+                }
+            }
+            boolean dropsWhenDue = random.nextBoolean();
+            long next = DeadlineController.nextChange(items, NOW, dropsWhenDue);
+            DeadlineListResponse body = body(items, NOW, dropsWhenDue);
+            if (next == Long.MAX_VALUE) {
+                assertEquals(body, body(items, NOW.plusSeconds(10 * DAY), dropsWhenDue));
+                continue;
+            }
+            long before = NOW.getEpochSecond() + (long) (random.nextDouble() * (next - 1 - NOW.getEpochSecond()));
+            assertEquals(body, body(items, Instant.ofEpochSecond(before), dropsWhenDue));
+            assertEquals(body, body(items, Instant.ofEpochSecond(next - 1), dropsWhenDue));
+            assertNotEquals(body, body(items, Instant.ofEpochSecond(next), dropsWhenDue));
+        }
+    }
+
+    /** 미마감 목록이면 now 시점에 열린 항목만 남긴 본문 */
+    private static DeadlineListResponse body(List<DeadlineItem> items, Instant now, boolean dropsWhenDue) {
+        List<DeadlineItem> visible = new ArrayList<>();
+        for (DeadlineItem item : items) {
+            if (!dropsWhenDue || item.isOpenAt(now)) visible.add(item);
+        }
+        return DeadlineController.toResponse(visible, now);
+    }
+
+    private static long remainingDays(DeadlineItem item, Instant now) {
+        return DeadlineController.toResponse(List.of(item), now).assignments().get(0).remainingDays();
+    }
+
+    private static DeadlineItem item(Instant dueAt) {
+        return new DeadlineItem(NormalizedItem.Kind.ASSIGNMENT, UUID.randomUUID(), "과제", "자료구조", null, false, dueAt);
+    }
+}
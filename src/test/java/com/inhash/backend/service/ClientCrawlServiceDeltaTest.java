@@ -0,0 +1,107 @@
+package com.inhash.backend.service;
+
+import com.inhash.backend.domain.Student;
+import com.inhash.backend.domain.StudentUpdateStatus;
+import com.inhash.backend.repository.StudentRepository;
+import com.inhash.backend.repository.StudentUpdateStatusRepository;
+import com.inhash.backend.repository.SyncLogRepository;
+import com.inhash.backend.web.dto.ClientCrawlDataDto;
+import com.inhash.backend.web.dto.ClientCrawlDeltaDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 기준 버전이 현재 스냅샷 버전과 다른 델타는 아무것도 쓰지 않고 StaleSnapshotException(409)으로 거절되는지 확인
+ */
+class ClientCrawlServiceDeltaTest {
+
+    private static final Long STUDENT_ID = 7L;
+
+    private StudentRepository studentRepository;
+    private StudentUpdateStatusRepository updateStatusRepository;
+    private ItemBatchWriter itemBatchWriter;
+    private DeadlineQueryService deadlineQueryService;
+    private DeadlineEventBroadcaster eventBroadcaster;
+    private ClientCrawlService service;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository = mock(StudentRepository.class);
+        updateStatusRepository = mock(StudentUpdateStatusRepository.class);
+        itemBatchWriter = mock(ItemBatchWriter.class);
+        deadlineQueryService = mock(DeadlineQueryService.class);
+        eventBroadcaster = mock(DeadlineEventBroadcaster.class);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        service = new ClientCrawlService(
+                studentRepository,
+                updateStatusRepository,
+                mock(SyncLogRepository.class),
+                itemBatchWriter,
+                mock(CrawlItemNormalizer.class),
+                new IngestMetrics(registry),
+                new IngestDebugLog(false, 0),
+                new StudentIngestLock(4, "local", 5, 1, null, registry),
+                deadlineQueryService,
+                eventBroadcaster,
+                mock(PlatformTransactionManager.class));
+
+        Student student = new Student();
+        student.setId(STUDENT_ID);
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(Optional.of(student));
+    }
+
+    @Test
+    void outdatedBaseVersionIsRejected() {
+        StudentUpdateStatus status = new StudentUpdateStatus();
+        status.setSnapshotVersion(5L);
+        status.setContentHash("f".repeat(64));
+        when(updateStatusRepository.findByStudentIdForUpdate(STUDENT_ID)).thenReturn(Optional.of(status));
+
+        StaleSnapshotException e = assertThrows(StaleSnapshotException.class,
+                () -> service.processDelta(STUDENT_ID, delta(4L)));
+
+        assertEquals(5L, e.getCurrentVersion());
+        assertEquals(5L, status.getSnapshotVersion());
+        assertEquals("f".repeat(64), status.getContentHash());
+        verify(updateStatusRepository, never()).save(any());
+        verifyNoInteractions(itemBatchWriter, deadlineQueryService, eventBroadcaster);
+    }
+
+    @Test
+    void deltaWithoutPriorSnapshotIsRejected() {
+        when(updateStatusRepository.findByStudentIdForUpdate(STUDENT_ID)).thenReturn(Optional.empty());
+
+        StaleSnapshotException e = assertThrows(StaleSnapshotException.class,
+                () -> service.processDelta(STUDENT_ID, delta(0L)));
+
+        assertEquals(0L, e.getCurrentVersion());
+        verifyNoInteractions(itemBatchWriter, deadlineQueryService, eventBroadcaster);
+    }
+
+    private static ClientCrawlDeltaDto delta(long baseVersion) {
+        ClientCrawlDataDto.ItemDto item = new ClientCrawlDataDto.ItemDto();
+        item.setType("assignment");
+        item.setCourseName("자료구조");
+        item.setTitle("과제 1");
+        item.setDue("2025-03-10 23:59");
+        ClientCrawlDeltaDto delta = new ClientCrawlDeltaDto();
+        delta.setBaseVersion(baseVersion);
+        delta.setAdded(List.of(item));
+        delta.setRemoved(List.of());
+        return delta;
+    }
+}
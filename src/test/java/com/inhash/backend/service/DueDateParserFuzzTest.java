@@ -0,0 +1,128 @@
+package com.inhash.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * DueDateParser가 기존 parseDue(정규식 + DateTimeFormatter)와 같은 결과를 내는지 무작위 입력으로 비교
+ */
+class DueDateParserFuzzTest {
+
+    private static final String ALPHABET = "0123456789-: Tt.+x\t";
+
+    @Test
+    void matchesLegacyParserOnGeneratedDates() {
+        Random random = new Random(20250301L);
+        for (int i = 0; i < 200_000; i++) {
+            assertSameAsLegacy(randomDate(random));
+        }
+    }
+
+    @Test
+    void matchesLegacyParserOnMutatedDates() {
+        Random random = new Random(42L);
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder sb = new StringBuilder(randomDate(random));
+            int edits = 1 + random.nextInt(3);
+            for (int e = 0; e < edits; e++) {
+                int pos = sb.length() == 0 ? 0 : random.nextInt(sb.length());
+                char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+                switch (random.nextInt(3)) {
+                    case 0 -> { if (sb.length() > 0) sb.setCharAt(pos, c); }
+                    case 1 -> sb.insert(pos, c);
+                    default -> { if (sb.length() > 0) sb.deleteCharAt(pos); }
+                }
+            }
+            assertSameAsLegacy(sb.toString());
+        }
+    }
+
+    @Test
+    void matchesLegacyParserOnEdgeCases() {
+        String[] cases = {
+            null, "", "   ", "2025-02-30 10:00:00", "2025-02-31 10:00", "2024-02-30 23:59",
+            "2025-02-30T10:00:00", "2025-01-01 24:00:00", "2025-12-31 24:00", "2025-01-01 24:01",
+            "2025-01-01T24:00:00", "2025-01-01T10:00:00.", "2025-01-01T10:00:00.123456789",
+            "2025-01-01T10:00:00.1234567891", "2025-01-01t10:00", "2025-01-01 10:00:00.5",
+            "+2025-01-01T10:00:00", "+12025-01-01T10:00:00", "-0001-01-01T10:00", "0000-01-01 10:00:00",
+            "0000-01-01T10:00:00", "1987-05-10 02:30", "1988-10-09 02:30:00", "1960-05-10 10:00",
+            "2025-01-01T10", "2025-01-01T10:00Z", " 2025-03-01 09:00 ", "2025-03-01 09:00"
+        };
+        for (String due : cases) {
+            assertSameAsLegacy(due);
+        }
+    }
+
+    @Test
+    void usesEndOfVodRange() {
+        assertEquals(legacyParseDue("2025-03-10 23:59:59"), DueDateParser.parse("2025-03-03 00:00:00 ~ 2025-03-10 23:59:59"));
+        assertEquals(legacyParseDue("2025-03-10 23:59"), DueDateParser.parse("2025-03-03 00:00~2025-03-10 23:59"));
+        assertNull(DueDateParser.parse("2025-03-03 00:00 ~ "));
+    }
+
+    private static void assertSameAsLegacy(String due) {
+        if (due != null && due.indexOf('~') >= 0) return; // '~' 범위 형식은 새로 추가된 동작
+        Instant expected = legacyParseDue(due);
+        assertEquals(expected, DueDateParser.parse(due), () -> "input: '" + due + "'");
+        long epochSecond = DueDateParser.parseEpochSecond(due);
+        assertEquals(expected == null ? DueDateParser.INVALID : expected.getEpochSecond(), epochSecond,
+                () -> "input: '" + due + "'");
+    }
+
+    private static String randomDate(Random r) {
+        int year = switch (r.nextInt(10)) {
+            case 0 -> r.nextInt(10_000);
+            case 1 -> 1985 + r.nextInt(6);
+            default -> 2020 + r.nextInt(10);
+        };
+        int month = r.nextInt(10) == 0 ? r.nextInt(100) : 1 + r.nextInt(12);
+        int day = r.nextInt(10) == 0 ? r.nextInt(100) : 1 + r.nextInt(31);
+        int hour = r.nextInt(10) == 0 ? 24 + r.nextInt(76) : r.nextInt(r.nextInt(8) == 0 ? 25 : 24);
+        int minute = r.nextInt(20) == 0 ? 60 + r.nextInt(40) : (r.nextInt(4) == 0 ? 0 : r.nextInt(60));
+        int second = r.nextInt(20) == 0 ? 60 + r.nextInt(40) : (r.nextInt(4) == 0 ? 0 : r.nextInt(60));
+        char sep = switch (r.nextInt(4)) { case 0 -> 'T'; case 1 -> 't'; default -> ' '; };
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%04d-%02d-%02d%c%02d:%02d", year, month, day, sep, hour, minute));
+        if (r.nextBoolean()) {
+            sb.append(String.format(":%02d", second));
+            if (r.nextInt(6) == 0) {
+                sb.append('.');
+                int digits = r.nextInt(11);
+                for (int i = 0; i < digits; i++) sb.append((char) ('0' + r.nextInt(10)));
+            }
+        }
+        if (r.nextInt(8) == 0) sb.insert(0, "  ");
+        if (r.nextInt(8) == 0) sb.append(' ');
+        return sb.toString();
+    }
+
+    /**
+     * 기존 CrawlItemNormalizer.parseDue 구현 (비교 기준)
+     */
+    private static Instant legacyParseDue(String due) {
+        if (due == null || due.isBlank()) return null;
+        try {
+            String norm = due.trim();
+            LocalDateTime ldt;
+            if (norm.matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}")) {
+                ldt = LocalDateTime.parse(norm, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+            } else if (norm.matches("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}")) {
+                ldt = LocalDateTime.parse(norm, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+            } else {
+                if (norm.length() == 16) norm = norm + ":00";
+                ldt = LocalDateTime.parse(norm.replace(' ', 'T'));
+            }
+            return ldt.atZone(ZoneId.of("Asia/Seoul")).toInstant();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
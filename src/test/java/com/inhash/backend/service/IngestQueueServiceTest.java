@@ -0,0 +1,111 @@
+package com.inhash.backend.service;
+
+import com.inhash.backend.domain.SyncJob;
+import com.inhash.backend.repository.SyncJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 작업 상태 기록(SyncJob)이 실패해도 학생 레인이 막히지 않는지 확인
+ * - 워커 풀 대신 호출 스레드에서 바로 실행하는 Executor를 써서 submit 안에서 처리까지 끝냅니다.
+ */
+class IngestQueueServiceTest {
+
+    private static final Long STUDENT_ID = 7L;
+
+    private ClientCrawlService clientCrawlService;
+    private SyncJobRepository syncJobRepository;
+    private IngestQueueService queue;
+
+    @BeforeEach
+    void setUp() {
+        clientCrawlService = mock(ClientCrawlService.class);
+        syncJobRepository = mock(SyncJobRepository.class);
+        when(clientCrawlService.processPayload(eq(STUDENT_ID), any(IngestPayload.class)))
+                .thenReturn(new IngestResult(1, 0, 0, 0));
+        queue = new IngestQueueService(clientCrawlService, syncJobRepository, Runnable::run, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(queue, "maxPending", 10);
+    }
+
+    @Test
+    void nextSubmitIsProcessedAfterRepositoryFailure() {
+        when(syncJobRepository.findByJobId(anyString()))
+                .thenThrow(new RuntimeException("connection refused"))
+                .thenAnswer(inv -> Optional.of(job(inv.getArgument(0))));
+
+        queue.submit(STUDENT_ID, payload());
+        queue.submit(STUDENT_ID, payload());
+
+        verify(clientCrawlService, times(2)).processPayload(eq(STUDENT_ID), any(IngestPayload.class));
+        assertEquals(0, queue.depth());
+    }
+
+    @Test
+    void nextSubmitIsProcessedAfterResultSaveFailure() {
+        when(syncJobRepository.findByJobId(anyString())).thenAnswer(inv -> Optional.of(job(inv.getArgument(0))));
+        when(syncJobRepository.save(any(SyncJob.class)))
+                .thenAnswer(inv -> inv.getArgument(0))      // submit: queued
+                .thenAnswer(inv -> inv.getArgument(0))      // running
+                .thenThrow(new RuntimeException("lock wait timeout")) // 결과 기록 실패
+                .thenAnswer(inv -> inv.getArgument(0));
+
+        queue.submit(STUDENT_ID, payload());
+        queue.submit(STUDENT_ID, payload());
+
+        verify(clientCrawlService, times(2)).processPayload(eq(STUDENT_ID), any(IngestPayload.class));
+        assertEquals(0, queue.depth());
+    }
+
+    @Test
+    void missingJobRowStillProcessesPayload() {
+        when(syncJobRepository.findByJobId(anyString())).thenReturn(Optional.empty());
+
+        queue.submit(STUDENT_ID, payload());
+
+        verify(clientCrawlService, times(1)).processPayload(eq(STUDENT_ID), any(IngestPayload.class));
+    }
+
+    @Test
+    void failedIngestIsRecordedAndLaneReleased() {
+        SyncJob[] saved = new SyncJob[1];
+        when(syncJobRepository.findByJobId(anyString())).thenAnswer(inv -> {
+            saved[0] = job(inv.getArgument(0));
+            return Optional.of(saved[0]);
+        });
+        when(clientCrawlService.processPayload(eq(STUDENT_ID), any(IngestPayload.class)))
+                .thenThrow(new RuntimeException("Failed to process crawl data"))
+                .thenReturn(new IngestResult(1, 0, 0, 0));
+
+        queue.submit(STUDENT_ID, payload());
+        assertEquals("failed", saved[0].getStatus());
+
+        queue.submit(STUDENT_ID, payload());
+        assertEquals("completed", saved[0].getStatus());
+        verify(clientCrawlService, times(2)).processPayload(eq(STUDENT_ID), any(IngestPayload.class));
+    }
+
+    private static SyncJob job(String jobId) {
+        SyncJob job = new SyncJob();
+        job.setJobId(jobId);
+        job.setStudentId(STUDENT_ID);
+        job.setStatus("queued");
+        return job;
+    }
+
+    private static IngestPayload payload() {
+        return IngestPayload.builder(STUDENT_ID, mock(CrawlItemNormalizer.class)).build();
+    }
+}
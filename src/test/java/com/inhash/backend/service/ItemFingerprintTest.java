@@ -0,0 +1,186 @@
+package com.inhash.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * ItemFingerprint가 항목 순서와 무관하고, 델타용 update가 전체 재계산(of)과 같은 값을 내는지 확인
+ * - 256비트 덧셈/뺄셈의 올림·빌림과 2^256 wraparound는 BigInteger로 계산한 값과 비교합니다.
+ */
+class ItemFingerprintTest {
+
+    private static final BigInteger MOD = BigInteger.ONE.shiftLeft(256);
+    private static final long[] SPECIAL = {0L, 1L, -1L, Long.MIN_VALUE, Long.MAX_VALUE};
+
+    @Test
+    void sameItemsInAnyOrderHashEqual() {
+        Random random = new Random(7L);
+        List<NormalizedItem> items = randomItems(random, 50);
+        String expected = ItemFingerprint.of(items);
+        for (int i = 0; i < 20; i++) {
+            List<NormalizedItem> shuffled = new ArrayList<>(items);
+            Collections.shuffle(shuffled, random);
+            assertEquals(expected, ItemFingerprint.of(shuffled));
+        }
+        assertNotEquals(expected, ItemFingerprint.of(items.subList(1, items.size())));
+    }
+
+    @Test
+    void matchesModularSumOfItemDigests() {
+        // 항목이 많으면 합이 2^256을 여러 번 넘으므로 워드 사이 올림과 wraparound가 모두 일어남
+        Random random = new Random(11L);
+        for (int round = 0; round < 50; round++) {
+            List<NormalizedItem> items = randomItems(random, random.nextInt(200));
+            BigInteger sum = BigInteger.ZERO;
+            for (NormalizedItem item : items) {
+                sum = sum.add(digest(item));
+            }
+            assertEquals(hex(sum.mod(MOD)), ItemFingerprint.of(items));
+        }
+    }
+
+    @Test
+    void updateMatchesFullRecompute() {
+        Random random = new Random(20250301L);
+        for (int round = 0; round < 500; round++) {
+            List<NormalizedItem> before = randomItems(random, random.nextInt(40));
+            List<NormalizedItem> after = new ArrayList<>();
+            List<NormalizedItem> removed = new ArrayList<>();
+            List<NormalizedItem> added = new ArrayList<>();
+            for (NormalizedItem item : before) {
+                switch (random.nextInt(3)) {
+                    case 0 -> after.add(item);
+                    case 1 -> removed.add(item);
+                    default -> {
+                        // 내용 변경: 이전 값은 빼고 새 값은 더함
+                        NormalizedItem changed = new NormalizedItem(item.getKind(), item.getId(),
+                                item.getCourseName(), item.getTitle() + "*", item.getDueAt());
+                        removed.add(item);
+                        added.add(changed);
+                        after.add(changed);
+                    }
+                }
+            }
+            for (NormalizedItem item : randomItems(random, random.nextInt(10))) {
+                added.add(item);
+                after.add(item);
+            }
+            assertEquals(ItemFingerprint.of(after), ItemFingerprint.update(ItemFingerprint.of(before), removed, added));
+        }
+    }
+
+    @Test
+    void updateWrapsBelowZeroAndBack() {
+        NormalizedItem item = randomItems(new Random(3L), 1).get(0);
+        String empty = ItemFingerprint.of(List.of());
+        assertEquals("0".repeat(64), empty);
+
+        String negative = ItemFingerprint.update(empty, List.of(item), List.of());
+        assertEquals(hex(MOD.subtract(digest(item))), negative);
+        assertEquals(empty, ItemFingerprint.update(negative, List.of(), List.of(item)));
+        assertEquals(ItemFingerprint.of(List.of(item)),
+                ItemFingerprint.update(ItemFingerprint.of(List.of(item, item)), List.of(item), List.of()));
+    }
+
+    @Test
+    void updateWithoutBaseReturnsNull() {
+        assertNull(ItemFingerprint.update(null, List.of(), List.of()));
+        assertNull(ItemFingerprint.update("abc", List.of(), List.of()));
+    }
+
+    @Test
+    void addAndSubtractPropagateCarryAcrossWords() {
+        // 올림이 더해져서야 넘치는 워드 (word + (-1) + carry == 0)
+        assertArrayEquals(new long[]{0, 1, 0, 0}, add(new long[]{0, 0, 0, 1}, new long[]{0, 0, -1, -1}));
+        // 빌림이 빼져서야 모자라는 워드 (word - 0 - borrow)
+        assertArrayEquals(new long[]{0, 0, -1, -1}, subtract(new long[]{0, 1, 0, 0}, new long[]{0, 0, 0, 1}));
+        // 2^256 - 1 + 1 = 0, 0 - 1 = 2^256 - 1
+        assertArrayEquals(new long[]{0, 0, 0, 0}, add(new long[]{-1, -1, -1, -1}, new long[]{0, 0, 0, 1}));
+        assertArrayEquals(new long[]{-1, -1, -1, -1}, subtract(new long[]{0, 0, 0, 0}, new long[]{0, 0, 0, 1}));
+    }
+
+    @Test
+    void addAndSubtractMatchBigIntegerOnEdgeWords() {
+        Random random = new Random(42L);
+        for (int i = 0; i < 100_000; i++) {
+            long[] a = randomWords(random);
+            long[] b = randomWords(random);
+            BigInteger x = toBig(a);
+            BigInteger y = toBig(b);
+            assertEquals(x.add(y).mod(MOD), toBig(add(a.clone(), b)));
+            assertEquals(x.subtract(y).mod(MOD), toBig(subtract(a.clone(), b)));
+        }
+    }
+
+    private static long[] add(long[] acc, long[] v) {
+        ReflectionTestUtils.invokeMethod(ItemFingerprint.class, "add", acc, v);
+        return acc;
+    }
+
+    private static long[] subtract(long[] acc, long[] v) {
+        ReflectionTestUtils.invokeMethod(ItemFingerprint.class, "subtract", acc, v);
+        return acc;
+    }
+
+    private static long[] randomWords(Random random) {
+        long[] words = new long[4];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = random.nextBoolean() ? SPECIAL[random.nextInt(SPECIAL.length)] : random.nextLong();
+        }
+        return words;
+    }
+
+    private static BigInteger toBig(long[] words) {
+        BigInteger value = BigInteger.ZERO;
+        for (long word : words) {
+            value = value.shiftLeft(64).add(new BigInteger(Long.toUnsignedString(word)));
+        }
+        return value;
+    }
+
+    private static String hex(BigInteger value) {
+        String hex = value.toString(16);
+        return "0".repeat(64 - hex.length()) + hex;
+    }
+
+    /** ItemFingerprint와 같은 정규 문자열의 SHA-256 (부호 없는 256비트 정수) */
+    private static BigInteger digest(NormalizedItem item) {
+        String canonical = item.getKind().ordinal() + "\u001f"
+                + item.getId() + "\u001f"
+                + item.getCourseName() + "\u001f"
+                + item.getTitle() + "\u001f"
+                + (item.getDueAt() != null ? item.getDueAt().getEpochSecond() : "-");
+        try {
+            byte[] bytes = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return new BigInteger(1, bytes);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<NormalizedItem> randomItems(Random random, int count) {
+        List<NormalizedItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            NormalizedItem.Kind kind = random.nextBoolean() ? NormalizedItem.Kind.ASSIGNMENT : NormalizedItem.Kind.LECTURE;
+            Instant due = random.nextInt(5) == 0 ? null : Instant.ofEpochSecond(1_700_000_000L + random.nextInt(50_000_000));
+            items.add(new NormalizedItem(kind, new UUID(random.nextLong(), random.nextLong()),
+                    "과목" + random.nextInt(20), "제목 " + random.nextInt(1000), due));
+        }
+        return items;
+    }
+}
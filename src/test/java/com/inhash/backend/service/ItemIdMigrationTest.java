@@ -0,0 +1,69 @@
+package com.inhash.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 마이그레이션의 스냅샷 초기화가 ddl-auto 이전 스키마(기존 배포)에서도 실패하지 않는지 확인
+ * - H2 메모리 DB(MySQL 모드)에 기존 student_update_status 모양의 테이블을 만들어 실행합니다.
+ */
+class ItemIdMigrationTest {
+
+    private JdbcTemplate jdbc;
+    private ItemIdMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        jdbc = new JdbcTemplate(dataSource);
+        migration = new ItemIdMigration(dataSource);
+    }
+
+    @Test
+    void baselineSchemaWithoutSnapshotColumnsIsLeftAlone() {
+        jdbc.execute("CREATE TABLE student_update_status (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "student_id BIGINT NOT NULL UNIQUE, last_updated_at TIMESTAMP, last_notification_sent_at TIMESTAMP, "
+                + "notification_count INT, is_active BOOLEAN, client_version VARCHAR(255), client_platform VARCHAR(255))");
+        jdbc.update("INSERT INTO student_update_status (student_id, notification_count) VALUES (1, 2)");
+
+        migration.resetSnapshots();
+
+        assertEquals(2, jdbc.queryForObject("SELECT notification_count FROM student_update_status", Integer.class));
+    }
+
+    @Test
+    void currentSchemaBumpsVersionAndClearsHash() {
+        jdbc.execute("CREATE TABLE student_update_status (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "student_id BIGINT NOT NULL UNIQUE, snapshot_version BIGINT, content_hash VARCHAR(64))");
+        jdbc.update("INSERT INTO student_update_status (student_id, snapshot_version, content_hash) VALUES (1, 4, 'abc')");
+        jdbc.update("INSERT INTO student_update_status (student_id, snapshot_version, content_hash) VALUES (2, NULL, NULL)");
+
+        migration.resetSnapshots();
+
+        Map<String, Object> first = jdbc.queryForMap("SELECT * FROM student_update_status WHERE student_id = 1");
+        assertEquals(5L, ((Number) first.get("snapshot_version")).longValue());
+        assertNull(first.get("content_hash"));
+        assertEquals(1L, jdbc.queryForObject(
+                "SELECT snapshot_version FROM student_update_status WHERE student_id = 2", Long.class));
+    }
+
+    @Test
+    void partiallyUpdatedSchemaUpdatesExistingColumnOnly() {
+        jdbc.execute("CREATE TABLE student_update_status (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "student_id BIGINT NOT NULL UNIQUE, content_hash VARCHAR(64))");
+        jdbc.update("INSERT INTO student_update_status (student_id, content_hash) VALUES (1, 'abc')");
+
+        migration.resetSnapshots();
+
+        assertNull(jdbc.queryForObject("SELECT content_hash FROM student_update_status", String.class));
+    }
+}
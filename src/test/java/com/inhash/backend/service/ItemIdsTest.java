@@ -0,0 +1,115 @@
+package com.inhash.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 항목 ID(기본 키) 생성/파싱 확인
+ * - MurmurHash3 x64_128 구현을 참조 구현(시드 0)의 알려진 값과 비교합니다.
+ * - ItemIds.of 결과를 고정값으로 박아 두어 해시 입력 순서나 인코딩이 바뀌면 바로 드러나게 합니다.
+ *   (값이 바뀌면 저장된 ID와 완료 토글 조회가 모두 어긋나므로 마이그레이션 없이 바꾸면 안 됨)
+ */
+class ItemIdsTest {
+
+    @Test
+    void murmurMatchesReferenceVectors() throws Exception {
+        // 입력을 16비트 단위로 넣으므로 짝수 길이 바이트열만 비교 (블록 경계 앞/뒤, 꼬리 8바이트 초과 포함)
+        assertMurmur(0x0000000000000000L, 0x0000000000000000L, "");
+        assertMurmur(0x629942693e10f867L, 0x92db0b82baeb5347L, "hell");
+        assertMurmur(0x4be06d94cf4ad1a7L, 0x87c35b5c63a708daL, "0123456789abcdef");
+        assertMurmur(0xc511d2a50b58fae8L, 0x2ad4543583f3b99fL, "0123456789abcdefgh");
+        assertMurmur(0xcd99481f9ee902c9L, 0x695da1a38987b6e7L, "The quick brown fox jumps over the lazy dog.");
+    }
+
+    @Test
+    void ofIsStable() {
+        assertEquals(UUID.fromString("82c8d179-6eca-d7e8-a881-4736d3bdc030"),
+                ItemIds.of("과제 1", "자료구조", 1L, Instant.ofEpochSecond(1741618740L)));
+        assertEquals(UUID.fromString("bfa416b9-a30a-69e6-84eb-5c2704434d07"),
+                ItemIds.of("중간 보고서", "운영체제", 20231234L, Instant.ofEpochSecond(1743433140L)));
+        assertEquals(UUID.fromString("e22a7c51-bdd4-f2c4-ba41-3c4c77ca21e5"),
+                ItemIds.of("1주차 강의", null, 7L, null));
+        assertEquals(UUID.fromString("296c05cd-cdbb-433e-4bce-cd9a17de1fc2"),
+                ItemIds.of("", "", null, Instant.EPOCH));
+    }
+
+    @Test
+    void ofSeparatesFields() {
+        Instant due = Instant.ofEpochSecond(1741618740L);
+        UUID id = ItemIds.of("ab", "c", 1L, due);
+        assertNotEquals(id, ItemIds.of("a", "bc", 1L, due));
+        assertNotEquals(id, ItemIds.of("ab", "c", 2L, due));
+        assertNotEquals(id, ItemIds.of("ab", "c", 1L, due.plusSeconds(1)));
+        assertNotEquals(ItemIds.of("", "c", 1L, due), ItemIds.of(null, "c", 1L, due));
+        // 나노초는 해시에 들어가지 않음 (DB에는 초 단위로 저장)
+        assertEquals(id, ItemIds.of("ab", "c", 1L, due.plusNanos(500)));
+    }
+
+    @Test
+    void parsesHyphenatedAndCompactForms() {
+        UUID id = UUID.fromString("82c8d179-6eca-d7e8-a881-4736d3bdc030");
+        assertEquals(id, ItemIds.parse("82c8d179-6eca-d7e8-a881-4736d3bdc030"));
+        assertEquals(id, ItemIds.parse("  82C8D179-6ECA-D7E8-A881-4736D3BDC030 "));
+        assertEquals(id, ItemIds.parse("82c8d1796ecad7e8a8814736d3bdc030"));
+        assertEquals(id, ItemIds.parse("82C8D1796ECAD7E8A8814736D3BDC030"));
+        assertEquals(new UUID(-1L, -1L), ItemIds.parse("ffffffffffffffffffffffffffffffff"));
+    }
+
+    @Test
+    void rejectsMalformedIds() {
+        String[] cases = {
+            null, "", "   ", "82c8d179", "82c8d1796ecad7e8a8814736d3bdc03", "82c8d1796ecad7e8a8814736d3bdc0300",
+            "82c8d1796ecad7e8a8814736d3bdc03g", "+2c8d1796ecad7e8a8814736d3bdc030", "82c8d1796ecad7e8-8814736d3bdc030",
+            "82c8d179-6eca-d7e8-a881-4736d3bdc03g", "82c8d179x6eca-d7e8-a881-4736d3bdc030",
+            "８2c8d1796ecad7e8a8814736d3bdc030", "assignment_1_2025-03-10_과제"
+        };
+        for (String value : cases) {
+            assertNull(ItemIds.parse(value), () -> "input: '" + value + "'");
+        }
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        UUID id = UUID.fromString("82c8d179-6eca-d7e8-a881-4736d3bdc030");
+        byte[] bytes = ItemIds.toBytes(id);
+        assertEquals(16, bytes.length);
+        assertEquals((byte) 0x82, bytes[0]);
+        assertEquals((byte) 0x30, bytes[15]);
+
+        Random random = new Random(8L);
+        for (int i = 0; i < 10_000; i++) {
+            UUID value = new UUID(random.nextLong(), random.nextLong());
+            assertEquals(value, ItemIds.fromBytes(ItemIds.toBytes(value)));
+        }
+    }
+
+    private static void assertMurmur(long h1, long h2, String input) throws Exception {
+        byte[] bytes = input.getBytes(StandardCharsets.US_ASCII);
+        Class<?> type = Class.forName(ItemIds.class.getName() + "$Murmur3");
+        Constructor<?> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        Object hasher = constructor.newInstance();
+        Method reset = type.getDeclaredMethod("reset");
+        Method putChar = type.getDeclaredMethod("putChar", char.class);
+        Method finish = type.getDeclaredMethod("finish");
+        reset.setAccessible(true);
+        putChar.setAccessible(true);
+        finish.setAccessible(true);
+
+        reset.invoke(hasher);
+        for (int i = 0; i < bytes.length; i += 2) {
+            putChar.invoke(hasher, (char) ((bytes[i] & 0xff) | (bytes[i + 1] & 0xff) << 8));
+        }
+        assertEquals(new UUID(h1, h2), finish.invoke(hasher), () -> "input: '" + input + "'");
+    }
+}